@@ -0,0 +1,38 @@
+package cool.ldw.pdf.benchmark;
+
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.pdf.BaseFont;
+import cool.ldw.pdf.utils.PdfFontRegistry;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * 基准测试字体
+ * 工作目录下没有 fonts/simsun.ttf、fonts/simhei.ttf 时使用 itext-asian 自带的 STSong-Light 代替
+ *
+ * @author ldwcool
+ */
+public final class BenchmarkFonts {
+
+    private BenchmarkFonts() {
+    }
+
+    /**
+     * 初始化字体
+     */
+    public static void init() {
+        if (new File("fonts/simsun.ttf").exists() && new File("fonts/simhei.ttf").exists()) {
+            PdfFontRegistry.warmUp();
+            return;
+        }
+        try {
+            BaseFont baseFont = BaseFont.createFont("STSong-Light", "UniGB-UCS2-H", BaseFont.NOT_EMBEDDED);
+            PdfFontRegistry.register(PdfFontRegistry.SIMSUN, baseFont);
+            PdfFontRegistry.register(PdfFontRegistry.SIMHEI, baseFont);
+        } catch (DocumentException | IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+package cool.ldw.pdf.benchmark;
+
+import com.itextpdf.text.pdf.PdfPTable;
+import cool.ldw.pdf.utils.PdfExportUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * list 类型表格基准测试
+ *
+ * @author ldwcool
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListTableBenchmark {
+
+    /**
+     * 行数
+     */
+    @Param({"1000", "100000"})
+    private int rows;
+
+    /**
+     * 表格内容集合类型
+     */
+    @Param({"ArrayList", "LinkedList"})
+    private String listType;
+
+    /**
+     * 表格头
+     */
+    private Map<String, String> header;
+
+    /**
+     * 表格内容
+     */
+    private List<Map<String, String>> content;
+
+    /**
+     * 列宽
+     */
+    private float[] cellsWidthConfig;
+
+    @Setup
+    public void setup() {
+        BenchmarkFonts.init();
+
+        header = new LinkedHashMap<>();
+        header.put("部门", "dept");
+        header.put("状态", "status");
+        header.put("姓名", "name");
+        header.put("金额", "amount");
+        cellsWidthConfig = new float[]{1, 1, 1, 1};
+
+        content = "LinkedList".equals(listType) ? new LinkedList<Map<String, String>>() : new ArrayList<Map<String, String>>(rows);
+        for (int i = 0; i < rows; i++) {
+            Map<String, String> row = new HashMap<>(8);
+            // 每 20 行一个部门，每 5 行一个状态，便于行合并
+            row.put("dept", "部门" + i / 20);
+            row.put("status", "状态" + i / 5);
+            row.put("name", "姓名" + i);
+            row.put("amount", String.valueOf(i % 7));
+            content.add(row);
+        }
+    }
+
+    @Benchmark
+    public PdfPTable buildListTable() {
+        return PdfExportUtil.buildListTable(header, content, cellsWidthConfig, false);
+    }
+
+    @Benchmark
+    public PdfPTable buildListTableRowSpan() {
+        return PdfExportUtil.buildListTable(header, content, cellsWidthConfig, true);
+    }
+
+}
@@ -0,0 +1,102 @@
+package cool.ldw.pdf.benchmark;
+
+import cool.ldw.pdf.utils.PdfExportDocument;
+import cool.ldw.pdf.utils.PdfExportUtil;
+import cool.ldw.pdf.utils.PdfOutputProfile;
+import cool.ldw.pdf.utils.PdfStyleSheet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 输出配置基准测试
+ * 对比各输出配置的导出耗时，结束时打印生成的文件大小
+ *
+ * @author ldwcool
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OutputProfileBenchmark {
+
+    /**
+     * 输出配置
+     */
+    @Param({"FAST", "BALANCED", "SMALLEST"})
+    private PdfOutputProfile profile;
+
+    /**
+     * 表格头
+     */
+    private Map<String, String> header;
+
+    /**
+     * 表格内容
+     */
+    private List<Map<String, String>> content;
+
+    /**
+     * 输出流，每次导出前清空
+     */
+    private ByteArrayOutputStream os;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkFonts.init();
+
+        header = new LinkedHashMap<>();
+        header.put("姓名", "name");
+        header.put("状态", "status");
+        header.put("金额", "amount");
+        content = new ArrayList<>(1000);
+        for (int i = 0; i < 1000; i++) {
+            Map<String, String> row = new HashMap<>(4);
+            row.put("name", "姓名" + i);
+            row.put("status", "状态" + i % 3);
+            row.put("amount", String.valueOf(i % 7));
+            content.add(row);
+        }
+        os = new ByteArrayOutputStream(1 << 20);
+    }
+
+    @Benchmark
+    public int export() {
+        os.reset();
+        PdfExportDocument document = PdfExportDocument.getInstance(os, "页眉", "水印", PdfStyleSheet.getDefault(), profile);
+        document.open();
+        for (int i = 0; i < 5; i++) {
+            document.addLevel1Title("第" + i + "章");
+            document.addLevel2Title("明细").add(PdfExportUtil.buildListTable(header, content));
+        }
+        document.close();
+        return os.size();
+    }
+
+    @TearDown(Level.Trial)
+    public void printSize() {
+        System.out.println();
+        System.out.println(profile + " 文件大小: " + os.size() + " bytes");
+    }
+
+}
@@ -0,0 +1,129 @@
+package cool.ldw.pdf.benchmark;
+
+import com.itextpdf.text.Section;
+import cool.ldw.pdf.utils.PdfExportDocument;
+import cool.ldw.pdf.utils.PdfExportUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 文档关闭基准测试
+ * 关闭时排版正文、生成封面和目录并重新排序页面，目录条目数与标题数一致
+ *
+ * @author ldwcool
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PdfExportDocumentBenchmark {
+
+    /**
+     * 一级标题数，每个一级标题下有 4 个二级标题，每个二级标题下有 2 个三级标题
+     * 每个一级标题共 1 + 4 + 8 = 13 个目录条目，20、100 分别对应 260、1300 个目录条目
+     */
+    @Param({"20", "100"})
+    private int chapters;
+
+    /**
+     * 每个三级标题下的表格行数，为 0 则只有标题
+     */
+    @Param({"0", "20"})
+    private int tableRows;
+
+    /**
+     * 表格头
+     */
+    private Map<String, String> header;
+
+    /**
+     * 表格内容
+     */
+    private List<Map<String, String>> content;
+
+    /**
+     * 待关闭的文档
+     */
+    private PdfExportDocument document;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        BenchmarkFonts.init();
+
+        header = new LinkedHashMap<>();
+        header.put("姓名", "name");
+        header.put("金额", "amount");
+        content = new ArrayList<>(tableRows);
+        for (int i = 0; i < tableRows; i++) {
+            Map<String, String> row = new HashMap<>(4);
+            row.put("name", "姓名" + i);
+            row.put("amount", String.valueOf(i % 7));
+            content.add(row);
+        }
+    }
+
+    /**
+     * 每次调用前重新添加所有标题和内容，只测量 close()
+     */
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        document = PdfExportDocument.getInstance(NullOutputStream.INSTANCE, "页眉", "水印");
+        document.open();
+        for (int c = 0; c < chapters; c++) {
+            document.addLevel1Title("第" + c + "章");
+            for (int s = 0; s < 4; s++) {
+                document.addLevel2Title("第" + s + "节");
+                for (int t = 0; t < 2; t++) {
+                    Section section = document.addLevel3Title("条目" + t);
+                    if (tableRows > 0) {
+                        section.add(PdfExportUtil.buildListTable(header, content));
+                    }
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public PdfExportDocument close() {
+        document.close();
+        return document;
+    }
+
+    /**
+     * 丢弃所有内容的输出流
+     */
+    private static final class NullOutputStream extends OutputStream {
+
+        private static final NullOutputStream INSTANCE = new NullOutputStream();
+
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+
+    }
+
+}
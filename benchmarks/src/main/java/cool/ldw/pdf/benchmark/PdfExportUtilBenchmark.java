@@ -0,0 +1,52 @@
+package cool.ldw.pdf.benchmark;
+
+import com.itextpdf.text.pdf.BaseFont;
+import com.itextpdf.text.pdf.PdfPCell;
+import cool.ldw.pdf.utils.PdfExportUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 字体获取、单元格创建基准测试
+ *
+ * @author ldwcool
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PdfExportUtilBenchmark {
+
+    @Setup
+    public void setup() {
+        BenchmarkFonts.init();
+    }
+
+    @Benchmark
+    public BaseFont getSimsunBaseFont() {
+        return PdfExportUtil.getSimsunBaseFont();
+    }
+
+    @Benchmark
+    public PdfPCell initPdfCell() {
+        return PdfExportUtil.initPdfCell("单元格内容");
+    }
+
+    @Benchmark
+    public PdfPCell initPdfCellHeader() {
+        return PdfExportUtil.initPdfCellHeader("表格头");
+    }
+
+}
@@ -8,6 +8,7 @@ import com.itextpdf.text.pdf.PdfPCell;
 import com.itextpdf.text.pdf.PdfPTable;
 import cool.ldw.pdf.utils.PdfExportDocument;
 import cool.ldw.pdf.utils.PdfExportUtil;
+import cool.ldw.pdf.utils.PdfListTableRow;
 
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -201,29 +202,29 @@ public class Demo {
         section.add(paragraph);
         // 表格内容
         content = new LinkedList<>();
-        row1 = new LinkedHashMap<>(5);
+        row1 = new PdfListTableRow().setCellSpanGroup("sex", "group1");
         row1.put("name", "张三");
         row1.put("age", "18");
-        row1.put("sex", PdfExportUtil.addListTableSpanGroup("男", "group1"));
+        row1.put("sex", "男");
         content.add(row1);
-        row2 = new LinkedHashMap<>(5);
+        row2 = new PdfListTableRow().setCellSpanGroup("sex", "group1");
         row2.put("name", "张三");
         row2.put("age", "18");
-        row2.put("sex", PdfExportUtil.addListTableSpanGroup("男", "group1"));
+        row2.put("sex", "男");
         content.add(row2);
-        row3 = new LinkedHashMap<>(5);
+        row3 = new PdfListTableRow().setCellSpanGroup("sex", "group1");
         row3.put("name", "张三");
         row3.put("age", "18");
-        row3.put("sex", PdfExportUtil.addListTableSpanGroup("男", "group1"));
-        Map<String, String> row4 = new LinkedHashMap<>(5);
+        row3.put("sex", "男");
+        Map<String, String> row4 = new PdfListTableRow().setCellSpanGroup("sex", "group2");
         row4.put("name", "李四");
         row4.put("age", "18");
-        row4.put("sex", PdfExportUtil.addListTableSpanGroup("男", "group2"));
+        row4.put("sex", "男");
         content.add(row4);
-        Map<String, String> row5 = new LinkedHashMap<>(5);
+        Map<String, String> row5 = new PdfListTableRow().setCellSpanGroup("sex", "group2");
         row5.put("name", "李四");
         row5.put("age", "18");
-        row5.put("sex", PdfExportUtil.addListTableSpanGroup("男", "group2"));
+        row5.put("sex", "男");
         content.add(row5);
         PdfPTable table10 = PdfExportUtil.buildListTable(header, content, new float[] {2, 0.8f, 1f}, true, new String[] {"sex"});
         section.add(table10);
@@ -239,17 +240,17 @@ public class Demo {
         header.put("性别", "sex");
         // 表格内容
         content = new LinkedList<>();
-        row1 = new LinkedHashMap<>(6);
+        row1 = new PdfListTableRow().setCellSpanGroup("sex", "group1");
         row1.put("index", "1");
         row1.put("name", "张三");
         row1.put("age", "18");
-        row1.put("sex", PdfExportUtil.addListTableSpanGroup("男", "group1"));
+        row1.put("sex", "男");
         content.add(row1);
-        row2 = new LinkedHashMap<>(6);
+        row2 = new PdfListTableRow().setCellSpanGroup("sex", "group1");
         row2.put("index", "1.1");
         row2.put("name", "张三");
         row2.put("age", "18");
-        row2.put("sex", PdfExportUtil.addListTableSpanGroup("男", "group1"));
+        row2.put("sex", "男");
         content.add(row2);
         row3 = new LinkedHashMap<>(6);
         row3.put("index", "1.2");
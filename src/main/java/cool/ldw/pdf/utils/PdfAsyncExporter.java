@@ -0,0 +1,151 @@
+package cool.ldw.pdf.utils;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.thread.ThreadUtil;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * pdf 异步导出
+ * 在指定的线程池中完成内容构建、排版、封面、目录及页面重新排序，调用线程不会被阻塞。
+ * 每次导出使用独立的文档，可以同时发起多个导出。
+ * JDK 21 及以上推荐使用虚拟线程：new PdfAsyncExporter(Executors.newVirtualThreadPerTaskExecutor())，
+ * 低版本 JDK 请使用有界线程池，避免同时排版的文档过多导致内存不足。
+ *
+ * @author ldwcool
+ */
+public class PdfAsyncExporter {
+
+    /**
+     * 执行导出的线程池
+     */
+    private final Executor executor;
+
+    /**
+     * 样式表
+     */
+    private final PdfStyleSheet styleSheet;
+
+    /**
+     * 创建异步导出，使用默认样式表
+     *
+     * @param executor 执行导出的线程池
+     */
+    public PdfAsyncExporter(Executor executor) {
+        this(executor, PdfStyleSheet.getDefault());
+    }
+
+    /**
+     * 创建异步导出
+     *
+     * @param executor   执行导出的线程池
+     * @param styleSheet 样式表
+     */
+    public PdfAsyncExporter(Executor executor, PdfStyleSheet styleSheet) {
+        this.executor = executor;
+        this.styleSheet = styleSheet;
+    }
+
+    /**
+     * 创建异步导出，当前 JDK 支持虚拟线程时每次导出使用一个虚拟线程，否则使用与 CPU 核数一致的线程池
+     * 线程池在第一次调用时创建，之后所有通过此方法创建的异步导出共用同一个线程池，线程为守护线程，无需关闭
+     *
+     * @return 异步导出
+     */
+    public static PdfAsyncExporter create() {
+        return new PdfAsyncExporter(DefaultExecutorHolder.EXECUTOR);
+    }
+
+    /**
+     * 异步导出为字节数组
+     *
+     * @param builder 内容构建者
+     * @return pdf 内容
+     */
+    public CompletableFuture<byte[]> exportToBytes(PdfExportBuilder builder) {
+        return this.exportToBytes(null, builder);
+    }
+
+    /**
+     * 异步导出为字节数组
+     * 导出过程中使用 {@link PdfMemorySink}，按同一报表类型最近的导出大小预先取出缓冲区
+     *
+     * @param reportType 报表类型，可以为空
+     * @param builder    内容构建者
+     * @return pdf 内容
+     */
+    public CompletableFuture<byte[]> exportToBytes(String reportType, PdfExportBuilder builder) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (PdfMemorySink sink = new PdfMemorySink(reportType)) {
+                PdfExportDocument.export(sink.getOutputStream(), this.styleSheet, builder);
+                return sink.toByteArray();
+            }
+        }, this.executor);
+    }
+
+    /**
+     * 异步导出到文件，导出失败时删除不完整的文件
+     *
+     * @param file    目标文件，上级目录不存在时自动创建
+     * @param builder 内容构建者
+     * @return 目标文件
+     */
+    public CompletableFuture<File> exportToFile(File file, PdfExportBuilder builder) {
+        return CompletableFuture.supplyAsync(() -> {
+            OutputStream os = FileUtil.getOutputStream(file);
+            try {
+                PdfExportDocument.export(os, this.styleSheet, builder);
+            } catch (RuntimeException e) {
+                IoUtil.close(os);
+                FileUtil.del(file);
+                throw e;
+            }
+            IoUtil.close(os);
+            return file;
+        }, this.executor);
+    }
+
+    /**
+     * 异步导出到输出流，文档关闭时输出流随之关闭
+     * 导出失败时不生成 pdf，输出流中可能残留不完整的内容，需要由调用方丢弃
+     *
+     * @param os      输出流
+     * @param builder 内容构建者
+     * @return 导出完成
+     */
+    public CompletableFuture<Void> exportToStream(OutputStream os, PdfExportBuilder builder) {
+        return CompletableFuture.runAsync(() -> PdfExportDocument.export(os, this.styleSheet, builder), this.executor);
+    }
+
+    /**
+     * 默认线程池，第一次使用时创建
+     */
+    private static class DefaultExecutorHolder {
+
+        private static final Executor EXECUTOR = defaultExecutor();
+
+    }
+
+    /**
+     * 创建默认线程池，优先使用虚拟线程
+     *
+     * @return 线程池
+     */
+    private static Executor defaultExecutor() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (Executor) method.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            // 当前 JDK 不支持虚拟线程
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                    ThreadUtil.newNamedThreadFactory("pdf-async-export-", true));
+        }
+    }
+
+}
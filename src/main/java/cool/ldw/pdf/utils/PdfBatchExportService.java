@@ -0,0 +1,140 @@
+package cool.ldw.pdf.utils;
+
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.thread.ThreadUtil;
+
+import java.io.Closeable;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * pdf 批量导出服务
+ * 在固定大小的线程池中并行导出，每个任务使用独立的 {@link PdfExportDocument}，字体和样式表在所有任务之间共享。
+ * 单个任务失败不影响其他任务，失败原因记录在导出结果中。线程安全。
+ *
+ * @author ldwcool
+ */
+public class PdfBatchExportService implements Closeable {
+
+    /**
+     * 线程池
+     */
+    private final ExecutorService executor;
+
+    /**
+     * 样式表
+     */
+    private final PdfStyleSheet styleSheet;
+
+    /**
+     * 创建批量导出服务，线程数与 CPU 核数一致，使用默认样式表
+     */
+    public PdfBatchExportService() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * 创建批量导出服务，使用默认样式表
+     *
+     * @param threads 线程数
+     */
+    public PdfBatchExportService(int threads) {
+        this(threads, PdfStyleSheet.getDefault());
+    }
+
+    /**
+     * 创建批量导出服务
+     * 样式表使用的字体在样式表创建时已经加载，工作线程第一次导出时不需要排队加载字体
+     *
+     * @param threads    线程数
+     * @param styleSheet 样式表
+     */
+    public PdfBatchExportService(int threads, PdfStyleSheet styleSheet) {
+        this.styleSheet = styleSheet;
+        this.executor = Executors.newFixedThreadPool(Math.max(threads, 1), ThreadUtil.newNamedThreadFactory("pdf-export-", true));
+    }
+
+    /**
+     * 提交导出任务
+     *
+     * @param job 导出任务
+     * @return 导出结果，任务失败时不会抛出异常，失败原因记录在结果中
+     */
+    public Future<PdfExportResult> submit(final PdfExportJob job) {
+        return this.executor.submit(new Callable<PdfExportResult>() {
+            @Override
+            public PdfExportResult call() {
+                return execute(job);
+            }
+        });
+    }
+
+    /**
+     * 并行导出所有任务并等待全部完成
+     *
+     * @param jobs 导出任务
+     * @return 导出结果，顺序与任务顺序一致
+     * @throws InterruptedException 等待时线程被中断
+     */
+    public List<PdfExportResult> exportAll(Collection<? extends PdfExportJob> jobs) throws InterruptedException {
+        List<Future<PdfExportResult>> futures = new ArrayList<>(jobs.size());
+        for (PdfExportJob job : jobs) {
+            futures.add(this.submit(job));
+        }
+        List<PdfExportResult> results = new ArrayList<>(futures.size());
+        for (Future<PdfExportResult> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                // execute 已经捕获所有异常，这里只会是 Error
+                throw new RuntimeException(e.getCause());
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 执行导出任务
+     *
+     * @param job 导出任务
+     * @return 导出结果
+     */
+    private PdfExportResult execute(PdfExportJob job) {
+        long start = System.currentTimeMillis();
+        OutputStream os = null;
+        try {
+            os = job.openOutputStream();
+            PdfExportDocument.export(os, this.styleSheet, job);
+            return new PdfExportResult(job.getName(), null, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            return new PdfExportResult(job.getName(), e, System.currentTimeMillis() - start);
+        } finally {
+            IoUtil.close(os);
+        }
+    }
+
+    /**
+     * 关闭服务，等待已提交的任务执行完成
+     */
+    @Override
+    public void close() {
+        this.executor.shutdown();
+        try {
+            while (!this.executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                // 继续等待正在导出的任务
+            }
+        } catch (InterruptedException e) {
+            this.executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
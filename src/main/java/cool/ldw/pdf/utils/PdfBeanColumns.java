@@ -0,0 +1,245 @@
+package cool.ldw.pdf.utils;
+
+import cn.hutool.core.bean.BeanDesc;
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.bean.PropDesc;
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.date.DateUtil;
+import com.itextpdf.text.Font;
+import com.itextpdf.text.Phrase;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * 实体类 list 类型表格的列定义
+ * 表格头对应实体类的属性，不需要先把实体类转换为 Map。每个实体类的属性读取方法只解析一次并缓存，
+ * 排版时直接读取属性值。列定义可以在多个线程之间共享，添加完列之后不要再修改。
+ * <pre>
+ * PdfBeanColumns columns = new PdfBeanColumns()
+ *         .addColumn("姓名", "name")
+ *         .addColumn("生日", "birthday", value -&gt; DateUtil.formatDate((Date) value));
+ * PdfPTable table = PdfExportUtil.buildListTable(users, columns);
+ * </pre>
+ *
+ * @author ldwcool
+ */
+public class PdfBeanColumns {
+
+    /**
+     * 列集合
+     */
+    private final List<Column> columns = new ArrayList<>();
+
+    /**
+     * 属性读取方法 键：实体类   值：与列顺序一致的属性
+     */
+    private final ConcurrentMap<Class<?>, PropDesc[]> propertyCache = new ConcurrentHashMap<>();
+
+    /**
+     * 添加列，属性值转换为字符串，日期格式为 yyyy-MM-dd HH:mm:ss
+     *
+     * @param header   表格头
+     * @param property 属性名，同时用于指定需要行合并的列
+     * @return this
+     */
+    public PdfBeanColumns addColumn(String header, String property) {
+        return this.addColumn(header, property, null);
+    }
+
+    /**
+     * 添加列
+     *
+     * @param header    表格头
+     * @param property  属性名，同时用于指定需要行合并的列
+     * @param formatter 属性值格式化，参数不会为 null。为 null 则转换为字符串，日期格式为 yyyy-MM-dd HH:mm:ss
+     * @return this
+     */
+    public PdfBeanColumns addColumn(String header, String property, Function<Object, String> formatter) {
+        this.columns.add(new Column(header, property, formatter));
+        this.propertyCache.clear();
+        return this;
+    }
+
+    /**
+     * 获取列集合
+     *
+     * @return 列集合
+     */
+    public List<Column> getColumns() {
+        return Collections.unmodifiableList(this.columns);
+    }
+
+    /**
+     * 转换为表格数据
+     *
+     * @param content 表格内容，每一行为一个实体类
+     * @return 表格数据
+     */
+    PdfListTableRows toRows(List<?> content) {
+        return new BeanRows(content);
+    }
+
+    /**
+     * 获取实体类中与列顺序一致的属性，每个实体类只解析一次
+     *
+     * @param beanClass 实体类
+     * @return 属性
+     */
+    private PropDescs getProperties(Class<?> beanClass) {
+        PropDesc[] properties = this.propertyCache.get(beanClass);
+        if (properties == null) {
+            BeanDesc beanDesc = BeanUtil.getBeanDesc(beanClass);
+            properties = new PropDesc[this.columns.size()];
+            for (int i = 0; i < properties.length; i++) {
+                String property = this.columns.get(i).getProperty();
+                properties[i] = beanDesc.getProp(property);
+                if (properties[i] == null || !properties[i].isReadable(false)) {
+                    throw new IllegalArgumentException(beanClass.getName() + " 没有可读取的属性：" + property);
+                }
+            }
+            this.propertyCache.put(beanClass, properties);
+        }
+        return new PropDescs(beanClass, properties);
+    }
+
+    /**
+     * 列
+     */
+    @Getter
+    public static class Column {
+
+        /**
+         * 表格头
+         */
+        private final String header;
+
+        /**
+         * 属性名
+         */
+        private final String property;
+
+        /**
+         * 属性值格式化
+         */
+        private final Function<Object, String> formatter;
+
+        private Column(String header, String property, Function<Object, String> formatter) {
+            this.header = header;
+            this.property = property;
+            this.formatter = formatter;
+        }
+
+        /**
+         * 格式化属性值
+         *
+         * @param value 属性值
+         * @return 单元格内容
+         */
+        private String format(Object value) {
+            if (value == null) {
+                return null;
+            }
+            if (this.formatter != null) {
+                return this.formatter.apply(value);
+            }
+            return value instanceof Date ? DateUtil.formatDateTime((Date) value) : Convert.toStr(value);
+        }
+    }
+
+    /**
+     * 某个实体类的属性
+     */
+    private static final class PropDescs {
+
+        private final Class<?> beanClass;
+
+        private final PropDesc[] properties;
+
+        private PropDescs(Class<?> beanClass, PropDesc[] properties) {
+            this.beanClass = beanClass;
+            this.properties = properties;
+        }
+    }
+
+    /**
+     * 实体类表格数据，第 0 列为序号列
+     */
+    private class BeanRows extends PdfListTableRows {
+
+        /**
+         * 表格内容
+         */
+        private final List<?> content;
+
+        /**
+         * 上一次读取的实体类的属性，同一表格中的实体类一般相同
+         */
+        private PropDescs lastProperties;
+
+        /**
+         * 计算行合并时已读取的单元格内容 下标：[列号][行号]，不需要行合并的列为 null。
+         * 行合并按列计算、排版按行进行，缓存后每个单元格只读取、格式化一次
+         */
+        private final String[][] spanTexts = new String[columns.size() + 1][];
+
+        private BeanRows(List<?> content) {
+            // 按行号随机访问，LinkedList 先复制一份避免每次 get 都遍历
+            this.content = content instanceof RandomAccess ? content : new ArrayList<>(content);
+        }
+
+        @Override
+        int size() {
+            return this.content.size();
+        }
+
+        @Override
+        Object getSpanKey(int row, int column) {
+            String text = this.getText(row, column);
+            if (this.spanTexts[column] == null) {
+                this.spanTexts[column] = new String[this.content.size()];
+            }
+            this.spanTexts[column][row] = text;
+            return text;
+        }
+
+        @Override
+        Phrase getPhrase(int row, int column, Font font) {
+            String[] columnTexts = this.spanTexts[column];
+            String text = columnTexts == null ? this.getText(row, column) : columnTexts[row];
+            return new Phrase(PdfExportUtil.formatStr(text), font);
+        }
+
+        /**
+         * 获取单元格内容
+         *
+         * @param row    行号
+         * @param column 列号
+         * @return 单元格内容
+         */
+        private String getText(int row, int column) {
+            if (column == 0) {
+                return row + 1 + "";
+            }
+            Object bean = this.content.get(row);
+            if (bean == null) {
+                return null;
+            }
+            PropDescs properties = this.lastProperties;
+            if (properties == null || properties.beanClass != bean.getClass()) {
+                properties = getProperties(bean.getClass());
+                this.lastProperties = properties;
+            }
+            Column data = columns.get(column - 1);
+            return data.format(properties.properties[column - 1].getValue(bean));
+        }
+    }
+
+}
@@ -0,0 +1,152 @@
+package cool.ldw.pdf.utils;
+
+import cn.hutool.core.util.StrUtil;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * pdf 内存输出缓冲区池
+ * 缓冲区按固定大小分块，{@link PdfMemorySink} 从池中取块写入，释放时归还，池中最多保留 maxPooledChunks 块，
+ * 池为空时直接新建，多余的块归还时丢弃。同时记录每种报表最近的导出大小，用于预估下一次导出需要的缓冲区。线程安全。
+ *
+ * @author ldwcool
+ */
+public class PdfBufferPool {
+
+    /**
+     * 默认块大小 64KB
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+    /**
+     * 默认池中最多保留的块数量，共 16MB
+     */
+    public static final int DEFAULT_MAX_POOLED_CHUNKS = 256;
+
+    /**
+     * 默认缓冲区池
+     */
+    private static final PdfBufferPool DEFAULT_POOL = new PdfBufferPool(DEFAULT_CHUNK_SIZE, DEFAULT_MAX_POOLED_CHUNKS);
+
+    /**
+     * 块大小
+     */
+    private final int chunkSize;
+
+    /**
+     * 池中最多保留的块数量
+     */
+    private final int maxPooledChunks;
+
+    /**
+     * 空闲的块
+     */
+    private final Queue<byte[]> chunks = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 空闲的块数量
+     */
+    private final AtomicInteger pooledChunks = new AtomicInteger();
+
+    /**
+     * 最近的导出大小 键：报表类型   值：导出大小的滑动平均
+     */
+    private final ConcurrentMap<String, Long> recentSizes = new ConcurrentHashMap<>();
+
+    /**
+     * 创建缓冲区池
+     *
+     * @param chunkSize       块大小
+     * @param maxPooledChunks 池中最多保留的块数量
+     */
+    public PdfBufferPool(int chunkSize, int maxPooledChunks) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("块大小必须大于 0");
+        }
+        this.chunkSize = chunkSize;
+        this.maxPooledChunks = Math.max(maxPooledChunks, 0);
+    }
+
+    /**
+     * 获取默认缓冲区池
+     *
+     * @return 默认缓冲区池
+     */
+    public static PdfBufferPool getDefault() {
+        return DEFAULT_POOL;
+    }
+
+    /**
+     * 获取块大小
+     *
+     * @return 块大小
+     */
+    public int getChunkSize() {
+        return this.chunkSize;
+    }
+
+    /**
+     * 获取池中空闲的块数量
+     *
+     * @return 空闲的块数量
+     */
+    public int getPooledChunks() {
+        return this.pooledChunks.get();
+    }
+
+    /**
+     * 获取预估的导出大小
+     *
+     * @param reportType 报表类型，可以为空
+     * @return 预估的导出大小，没有记录时返回 0
+     */
+    public long getExpectedSize(String reportType) {
+        Long size = this.recentSizes.get(StrUtil.nullToEmpty(reportType));
+        return size == null ? 0 : size;
+    }
+
+    /**
+     * 记录一次导出大小，与之前的记录按 3:1 加权平均
+     *
+     * @param reportType 报表类型，可以为空
+     * @param size       导出大小
+     */
+    public void recordSize(String reportType, long size) {
+        this.recentSizes.merge(StrUtil.nullToEmpty(reportType), size, (recent, current) -> (recent * 3 + current) / 4);
+    }
+
+    /**
+     * 取出一块
+     *
+     * @return 块
+     */
+    byte[] acquire() {
+        byte[] chunk = this.chunks.poll();
+        if (chunk == null) {
+            return new byte[this.chunkSize];
+        }
+        this.pooledChunks.decrementAndGet();
+        return chunk;
+    }
+
+    /**
+     * 归还一块，池已满时丢弃
+     *
+     * @param chunk 块
+     */
+    void release(byte[] chunk) {
+        if (chunk.length != this.chunkSize) {
+            return;
+        }
+        if (this.pooledChunks.incrementAndGet() <= this.maxPooledChunks) {
+            this.chunks.offer(chunk);
+        } else {
+            this.pooledChunks.decrementAndGet();
+        }
+    }
+
+}
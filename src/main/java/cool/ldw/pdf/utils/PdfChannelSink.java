@@ -0,0 +1,274 @@
+package cool.ldw.pdf.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 基于 FileChannel 的 pdf 输出
+ * pdf 内容经过池化的直接内存缓冲区写入文件，导出完成后可以通过 {@link #transferTo(WritableByteChannel)}
+ * 直接发送到网络连接，或通过 {@link #map()} 以只读内存映射的方式读取，全程不需要在堆内存中复制 pdf 内容。
+ * <pre>
+ * try (PdfChannelSink sink = PdfChannelSink.createTemp()) {
+ *     PdfExportDocument.export(sink.getOutputStream(), builder);
+ *     sink.transferTo(responseChannel);
+ * }
+ * </pre>
+ *
+ * @author ldwcool
+ */
+public class PdfChannelSink implements Closeable {
+
+    /**
+     * 缓冲区大小
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 缓冲区池最多保留的缓冲区数量
+     */
+    private static final int MAX_POOLED_BUFFERS = 32;
+
+    /**
+     * 直接内存缓冲区池
+     */
+    private static final Queue<ByteBuffer> BUFFER_POOL = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 缓冲区池中的缓冲区数量
+     */
+    private static final AtomicInteger POOLED_BUFFERS = new AtomicInteger();
+
+    /**
+     * 文件
+     */
+    private final Path file;
+
+    /**
+     * 文件通道
+     */
+    private final FileChannel channel;
+
+    /**
+     * 关闭时是否删除文件
+     */
+    private final boolean deleteOnClose;
+
+    private PdfChannelSink(Path file, boolean deleteOnClose) throws IOException {
+        this.file = file;
+        this.deleteOnClose = deleteOnClose;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * 创建输出到指定文件的 FileChannel，文件已存在时清空
+     *
+     * @param file 文件
+     * @return 输出
+     * @throws IOException -
+     */
+    public static PdfChannelSink create(Path file) throws IOException {
+        return new PdfChannelSink(file, false);
+    }
+
+    /**
+     * 创建输出到临时文件的 FileChannel，关闭时删除临时文件
+     *
+     * @return 输出
+     * @throws IOException -
+     */
+    public static PdfChannelSink createTemp() throws IOException {
+        return new PdfChannelSink(Files.createTempFile("pdf-export-", ".pdf"), true);
+    }
+
+    /**
+     * 获取写入文件通道的输出流
+     * 输出流关闭时只写入剩余的缓冲内容并归还缓冲区，不会关闭文件通道
+     *
+     * @return 输出流
+     */
+    public OutputStream getOutputStream() {
+        return new ChannelOutputStream(this.channel);
+    }
+
+    /**
+     * 获取已写入的字节数
+     *
+     * @return 字节数
+     * @throws IOException -
+     */
+    public long size() throws IOException {
+        return this.channel.size();
+    }
+
+    /**
+     * 获取文件
+     *
+     * @return 文件
+     */
+    public Path getFile() {
+        return this.file;
+    }
+
+    /**
+     * 把 pdf 内容发送到目标通道，操作系统支持时不经过用户态内存（如发送到 SocketChannel）
+     *
+     * @param target 目标通道
+     * @return 发送的字节数
+     * @throws IOException -
+     */
+    public long transferTo(WritableByteChannel target) throws IOException {
+        long size = this.channel.size();
+        long position = 0;
+        while (position < size) {
+            position += this.channel.transferTo(position, size - position, target);
+        }
+        return size;
+    }
+
+    /**
+     * 把 pdf 内容写入输出流
+     *
+     * @param os 输出流，不会被关闭
+     * @return 写入的字节数
+     * @throws IOException -
+     */
+    public long transferTo(OutputStream os) throws IOException {
+        return this.transferTo(Channels.newChannel(os));
+    }
+
+    /**
+     * 以只读内存映射的方式获取 pdf 内容
+     *
+     * @return 只读缓冲区
+     * @throws IOException -
+     */
+    public MappedByteBuffer map() throws IOException {
+        return this.channel.map(FileChannel.MapMode.READ_ONLY, 0, this.channel.size());
+    }
+
+    /**
+     * 关闭文件通道，临时文件同时删除
+     *
+     * @throws IOException -
+     */
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+        if (this.deleteOnClose) {
+            Files.deleteIfExists(this.file);
+        }
+    }
+
+    /**
+     * 从缓冲区池获取缓冲区
+     *
+     * @return 缓冲区
+     */
+    private static ByteBuffer borrowBuffer() {
+        ByteBuffer buffer = BUFFER_POOL.poll();
+        if (buffer == null) {
+            return ByteBuffer.allocateDirect(BUFFER_SIZE);
+        }
+        POOLED_BUFFERS.decrementAndGet();
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * 归还缓冲区，池已满时丢弃
+     *
+     * @param buffer 缓冲区
+     */
+    private static void returnBuffer(ByteBuffer buffer) {
+        if (POOLED_BUFFERS.incrementAndGet() <= MAX_POOLED_BUFFERS) {
+            BUFFER_POOL.offer(buffer);
+        } else {
+            POOLED_BUFFERS.decrementAndGet();
+        }
+    }
+
+    /**
+     * 写入文件通道的输出流
+     */
+    private static final class ChannelOutputStream extends OutputStream {
+
+        private final FileChannel channel;
+
+        private ByteBuffer buffer = borrowBuffer();
+
+        private ChannelOutputStream(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            this.ensureOpen();
+            if (!this.buffer.hasRemaining()) {
+                this.flushBuffer();
+            }
+            this.buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            this.ensureOpen();
+            while (len > 0) {
+                if (!this.buffer.hasRemaining()) {
+                    this.flushBuffer();
+                }
+                int count = Math.min(len, this.buffer.remaining());
+                this.buffer.put(b, off, count);
+                off += count;
+                len -= count;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (this.buffer != null) {
+                this.flushBuffer();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (this.buffer == null) {
+                return;
+            }
+            try {
+                this.flushBuffer();
+            } finally {
+                returnBuffer(this.buffer);
+                this.buffer = null;
+            }
+        }
+
+        private void flushBuffer() throws IOException {
+            this.buffer.flip();
+            while (this.buffer.hasRemaining()) {
+                this.channel.write(this.buffer);
+            }
+            this.buffer.clear();
+        }
+
+        private void ensureOpen() throws IOException {
+            if (this.buffer == null) {
+                throw new IOException("输出流已关闭");
+            }
+        }
+    }
+
+}
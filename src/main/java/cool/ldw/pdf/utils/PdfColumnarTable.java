@@ -0,0 +1,272 @@
+package cool.ldw.pdf.utils;
+
+import com.itextpdf.text.Font;
+import com.itextpdf.text.Phrase;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 列式存储的 list 类型表格数据
+ * 每一列为一个数组，不需要为每一行创建 Map。
+ * 取值较少的列（如状态、部门）可以使用字典编码，相同内容只保存一份，排版时共享同一个 Phrase。
+ *
+ * @author ldwcool
+ */
+@Getter
+public class PdfColumnarTable {
+
+    /**
+     * 行数
+     */
+    private final int rowCount;
+
+    /**
+     * 列集合
+     */
+    private final List<Column> columns = new ArrayList<>();
+
+    /**
+     * 自定义序号值（如子明细序号）。为 null 则使用行号
+     */
+    private String[] indexes;
+
+    /**
+     * 每一行的行合并分组，一组内的单元格独立合并不与其他组合并（即便数据是一样的）。为 null 则不分组
+     */
+    private Object[] spanGroups;
+
+    /**
+     * 创建列式表格数据
+     *
+     * @param rowCount 行数
+     */
+    public PdfColumnarTable(int rowCount) {
+        this.rowCount = rowCount;
+    }
+
+    /**
+     * 添加列
+     *
+     * @param header 表格头
+     * @param key    字段名，用于指定需要行合并的列
+     * @param values 列内容，长度与行数一致
+     * @return this
+     */
+    public PdfColumnarTable addColumn(String header, String key, String[] values) {
+        this.checkLength(values.length);
+        this.columns.add(new Column(header, key, values, null, null));
+        return this;
+    }
+
+    /**
+     * 添加字典编码列
+     *
+     * @param header     表格头
+     * @param key        字段名，用于指定需要行合并的列
+     * @param dictionary 字典，所有不重复的列内容
+     * @param codes      每一行内容在字典中的下标，长度与行数一致
+     * @return this
+     */
+    public PdfColumnarTable addDictionaryColumn(String header, String key, String[] dictionary, int[] codes) {
+        this.checkLength(codes.length);
+        this.columns.add(new Column(header, key, null, dictionary, codes));
+        return this;
+    }
+
+    /**
+     * 添加字典编码列，根据列内容自动生成字典
+     *
+     * @param header 表格头
+     * @param key    字段名，用于指定需要行合并的列
+     * @param values 列内容，长度与行数一致
+     * @return this
+     */
+    public PdfColumnarTable addDictionaryColumn(String header, String key, String[] values) {
+        this.checkLength(values.length);
+        Map<String, Integer> codeMap = new HashMap<>();
+        List<String> dictionary = new ArrayList<>();
+        int[] codes = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            Integer code = codeMap.get(values[i]);
+            if (code == null) {
+                code = dictionary.size();
+                codeMap.put(values[i], code);
+                dictionary.add(values[i]);
+            }
+            codes[i] = code;
+        }
+        return this.addDictionaryColumn(header, key, dictionary.toArray(new String[0]), codes);
+    }
+
+    /**
+     * 设置自定义序号值（如子明细序号）
+     *
+     * @param indexes 序号值，长度与行数一致
+     * @return this
+     */
+    public PdfColumnarTable setIndexes(String[] indexes) {
+        this.checkLength(indexes.length);
+        this.indexes = indexes;
+        return this;
+    }
+
+    /**
+     * 设置每一行的行合并分组，一组内的单元格独立合并不与其他组合并（即便数据是一样的）
+     *
+     * @param spanGroups 分组，长度与行数一致
+     * @return this
+     */
+    public PdfColumnarTable setSpanGroups(Object[] spanGroups) {
+        this.checkLength(spanGroups.length);
+        this.spanGroups = spanGroups;
+        return this;
+    }
+
+    /**
+     * 转换为表格数据
+     *
+     * @return 表格数据
+     */
+    PdfListTableRows toRows() {
+        return new ColumnarRows();
+    }
+
+    /**
+     * 校验列长度
+     *
+     * @param length 列长度
+     */
+    private void checkLength(int length) {
+        if (length != this.rowCount) {
+            throw new IllegalArgumentException("列长度 " + length + " 与行数 " + this.rowCount + " 不一致");
+        }
+    }
+
+    /**
+     * 列
+     */
+    @Getter
+    public static class Column {
+
+        /**
+         * 表格头
+         */
+        private final String header;
+
+        /**
+         * 字段名
+         */
+        private final String key;
+
+        /**
+         * 列内容，字典编码列为 null
+         */
+        private final String[] values;
+
+        /**
+         * 字典，普通列为 null
+         */
+        private final String[] dictionary;
+
+        /**
+         * 每一行内容在字典中的下标，普通列为 null
+         */
+        private final int[] codes;
+
+        private Column(String header, String key, String[] values, String[] dictionary, int[] codes) {
+            this.header = header;
+            this.key = key;
+            this.values = values;
+            this.dictionary = dictionary;
+            this.codes = codes;
+        }
+
+        /**
+         * 是否为字典编码列
+         *
+         * @return 是否为字典编码列
+         */
+        public boolean isDictionary() {
+            return this.codes != null;
+        }
+
+        /**
+         * 获取单元格内容
+         *
+         * @param row 行号
+         * @return 单元格内容
+         */
+        public String getValue(int row) {
+            return this.isDictionary() ? this.dictionary[this.codes[row]] : this.values[row];
+        }
+    }
+
+    /**
+     * 列式表格数据，第 0 列为序号列
+     */
+    private class ColumnarRows extends PdfListTableRows {
+
+        /**
+         * 字典编码列的共享单元格内容 下标：列号   值：按字典下标缓存的 Phrase
+         */
+        private final Phrase[][] phraseCache = new Phrase[columns.size() + 1][];
+
+        /**
+         * 缓存 Phrase 使用的字体
+         */
+        private Font phraseFont;
+
+        @Override
+        int size() {
+            return rowCount;
+        }
+
+        @Override
+        Object getSpanKey(int row, int column) {
+            if (column == 0) {
+                return indexes == null ? row + 1 + "" : indexes[row];
+            }
+            Column data = columns.get(column - 1);
+            // 字典编码列直接比较下标
+            return data.isDictionary() ? (Object) data.codes[row] : data.values[row];
+        }
+
+        @Override
+        Object getSpanGroup(int row, int column) {
+            return spanGroups == null ? null : spanGroups[row];
+        }
+
+        @Override
+        Phrase getPhrase(int row, int column, Font font) {
+            if (column == 0) {
+                return new Phrase(indexes == null ? row + 1 + "" : PdfExportUtil.formatStr(indexes[row]), font);
+            }
+            Column data = columns.get(column - 1);
+            if (!data.isDictionary()) {
+                return new Phrase(PdfExportUtil.formatStr(data.values[row]), font);
+            }
+
+            if (font != this.phraseFont) {
+                for (int i = 0; i < this.phraseCache.length; i++) {
+                    this.phraseCache[i] = null;
+                }
+                this.phraseFont = font;
+            }
+            Phrase[] phrases = this.phraseCache[column];
+            if (phrases == null) {
+                phrases = new Phrase[data.dictionary.length];
+                this.phraseCache[column] = phrases;
+            }
+            int code = data.codes[row];
+            if (phrases[code] == null) {
+                phrases[code] = new Phrase(PdfExportUtil.formatStr(data.dictionary[code]), font);
+            }
+            return phrases[code];
+        }
+    }
+
+}
@@ -0,0 +1,22 @@
+package cool.ldw.pdf.utils;
+
+import com.itextpdf.text.Element;
+
+import java.util.List;
+
+/**
+ * pdf 内容提供者
+ * 章节排版时才会调用，生成的内容排版完成后即被释放
+ *
+ * @author ldwcool
+ */
+public interface PdfContentSupplier {
+
+    /**
+     * 生成章节内容
+     *
+     * @return 章节内容，如段落、表格等
+     */
+    List<? extends Element> get();
+
+}
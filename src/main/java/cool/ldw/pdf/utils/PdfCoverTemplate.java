@@ -0,0 +1,236 @@
+package cool.ldw.pdf.utils;
+
+import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.Element;
+import com.itextpdf.text.Font;
+import com.itextpdf.text.PageSize;
+import com.itextpdf.text.Phrase;
+import com.itextpdf.text.Rectangle;
+import com.itextpdf.text.pdf.ColumnText;
+import com.itextpdf.text.pdf.PdfContentByte;
+import com.itextpdf.text.pdf.PdfImportedPage;
+import com.itextpdf.text.pdf.PdfReader;
+import com.itextpdf.text.pdf.PdfWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * pdf 封面模板
+ * 封面只排版一次并缓存为 pdf 内容，每个文档导入后作为一个 XObject 引用，不需要重新排版。
+ * 可以定义若干填写字段（如报表名称、日期），导出时在封面上的指定位置写入字段值。
+ * 封面模板不可修改，{@link #addField} 返回添加了字段的新模板，可以在多个线程之间共享：
+ * <pre>
+ * PdfCoverTemplate cover = PdfCoverTemplate.getOrRender("报表封面", supplier)
+ *         .addField("title", 297, 600, font);
+ * </pre>
+ *
+ * @author ldwcool
+ */
+public class PdfCoverTemplate {
+
+    /**
+     * 已排版的封面模板 键：模板名称   值：封面模板
+     */
+    private static final ConcurrentMap<String, PdfCoverTemplate> RENDERED_TEMPLATES = new ConcurrentHashMap<>();
+
+    /**
+     * 封面 pdf 内容
+     */
+    private final byte[] pdf;
+
+    /**
+     * 封面所在页码
+     */
+    private final int pageNumber;
+
+    /**
+     * 填写字段，不可修改
+     */
+    private final List<Field> fields;
+
+    private PdfCoverTemplate(byte[] pdf, int pageNumber, List<Field> fields) {
+        this.pdf = pdf;
+        this.pageNumber = pageNumber;
+        this.fields = fields;
+    }
+
+    /**
+     * 使用已有的 pdf 第一页作为封面
+     *
+     * @param pdf pdf 内容
+     * @return 封面模板
+     */
+    public static PdfCoverTemplate of(byte[] pdf) {
+        return of(pdf, 1);
+    }
+
+    /**
+     * 使用已有的 pdf 指定页作为封面
+     *
+     * @param pdf        pdf 内容
+     * @param pageNumber 页码，从 1 开始
+     * @return 封面模板
+     */
+    public static PdfCoverTemplate of(byte[] pdf, int pageNumber) {
+        return new PdfCoverTemplate(pdf, pageNumber, Collections.emptyList());
+    }
+
+    /**
+     * 排版封面内容生成封面模板，页面大小、边距与 {@link PdfExportDocument} 一致
+     *
+     * @param content 封面内容
+     * @return 封面模板
+     */
+    public static PdfCoverTemplate render(PdfContentSupplier content) {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        Document document = new Document(PageSize.A4, 36, 36, 48, 48);
+        boolean rendered = false;
+        try {
+            PdfWriter.getInstance(document, os);
+            document.open();
+            for (Element element : content.get()) {
+                document.add(element);
+            }
+            rendered = true;
+        } catch (DocumentException e) {
+            throw new RuntimeException(e);
+        } finally {
+            if (rendered) {
+                document.close();
+            } else if (document.isOpen()) {
+                // 排版失败时只释放文档，关闭时的异常（如没有页面）不覆盖排版异常
+                try {
+                    document.close();
+                } catch (RuntimeException ignored) {
+                    // ignore
+                }
+            }
+        }
+        return of(os.toByteArray());
+    }
+
+    /**
+     * 获取已排版的封面模板，同名模板只排版一次
+     * 缓存的模板不包含填写字段，每次通过 {@link #addField} 得到新模板，不影响缓存
+     * @param name    模板名称
+     * @param content 封面内容，第一次获取时调用
+     * @return 封面模板
+     */
+    public static PdfCoverTemplate getOrRender(String name, PdfContentSupplier content) {
+        PdfCoverTemplate template = RENDERED_TEMPLATES.get(name);
+        if (template == null) {
+            synchronized (RENDERED_TEMPLATES) {
+                template = RENDERED_TEMPLATES.get(name);
+                if (template == null) {
+                    template = render(content);
+                    RENDERED_TEMPLATES.put(name, template);
+                }
+            }
+        }
+        return template;
+    }
+
+    /**
+     * 添加填写字段，居中对齐
+     *
+     * @param name 字段名
+     * @param x    字段中心横坐标，原点为封面页面左下角
+     * @param y    字段基线纵坐标
+     * @param font 字体
+     * @return 添加了字段的新模板，当前模板不变
+     */
+    public PdfCoverTemplate addField(String name, float x, float y, Font font) {
+        return this.addField(name, x, y, font, Element.ALIGN_CENTER);
+    }
+
+    /**
+     * 添加填写字段
+     *
+     * @param name      字段名
+     * @param x         字段横坐标，原点为封面页面左下角
+     * @param y         字段基线纵坐标
+     * @param font      字体
+     * @param alignment 对齐方式，如 {@link Element#ALIGN_LEFT}
+     * @return 添加了字段的新模板，当前模板不变
+     */
+    public PdfCoverTemplate addField(String name, float x, float y, Font font, int alignment) {
+        List<Field> newFields = new ArrayList<>(this.fields.size() + 1);
+        newFields.addAll(this.fields);
+        newFields.add(new Field(name, x, y, font, alignment));
+        return new PdfCoverTemplate(this.pdf, this.pageNumber, Collections.unmodifiableList(newFields));
+    }
+
+    /**
+     * 把封面写到当前页，并填写字段
+     * 封面页面大小与当前页不一致时等比缩放并居中，填写字段随封面一起缩放
+     *
+     * @param writer      pdfWriter
+     * @param fieldValues 字段值 键：字段名   值：字段值。可以为 null
+     * @throws IOException -
+     */
+    void stamp(PdfWriter writer, Map<String, String> fieldValues) throws IOException {
+        PdfContentByte canvas = writer.getDirectContent();
+        Rectangle pageSize = writer.getPageSize();
+        PdfReader reader = new PdfReader(this.pdf);
+        float scale;
+        float offsetX;
+        float offsetY;
+        try {
+            PdfImportedPage page = writer.getImportedPage(reader, this.pageNumber);
+            scale = Math.min(pageSize.getWidth() / page.getWidth(), pageSize.getHeight() / page.getHeight());
+            offsetX = pageSize.getLeft() + (pageSize.getWidth() - page.getWidth() * scale) / 2;
+            offsetY = pageSize.getBottom() + (pageSize.getHeight() - page.getHeight() * scale) / 2;
+            canvas.addTemplate(page, scale, 0, 0, scale, offsetX, offsetY);
+            writer.freeReader(reader);
+        } finally {
+            reader.close();
+        }
+
+        if (fieldValues == null || this.fields.isEmpty()) {
+            return;
+        }
+        // 字段坐标为封面页面坐标，与封面使用相同的缩放和偏移
+        canvas.saveState();
+        canvas.concatCTM(scale, 0, 0, scale, offsetX, offsetY);
+        for (Field field : this.fields) {
+            String value = fieldValues.get(field.name);
+            if (value != null) {
+                ColumnText.showTextAligned(canvas, field.alignment, new Phrase(value, field.font), field.x, field.y, 0);
+            }
+        }
+        canvas.restoreState();
+    }
+
+    /**
+     * 填写字段
+     */
+    private static final class Field {
+
+        private final String name;
+
+        private final float x;
+
+        private final float y;
+
+        private final Font font;
+
+        private final int alignment;
+
+        private Field(String name, float x, float y, Font font, int alignment) {
+            this.name = name;
+            this.x = x;
+            this.y = y;
+            this.font = font;
+            this.alignment = alignment;
+        }
+    }
+
+}
@@ -0,0 +1,19 @@
+package cool.ldw.pdf.utils;
+
+/**
+ * pdf 内容构建者
+ * 向已打开的文档添加标题、段落、表格等内容，文档的打开和关闭由调用方负责
+ *
+ * @author ldwcool
+ */
+public interface PdfExportBuilder {
+
+    /**
+     * 构建文档内容
+     *
+     * @param document 已打开的文档
+     * @throws Exception 构建失败
+     */
+    void build(PdfExportDocument document) throws Exception;
+
+}
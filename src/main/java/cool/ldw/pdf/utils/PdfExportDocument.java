@@ -1,22 +1,26 @@
 package cool.ldw.pdf.utils;
 
 import cn.hutool.core.collection.CollUtil;
-import cn.hutool.core.text.CharSequenceUtil;
+import cn.hutool.core.exceptions.ExceptionUtil;
+import cn.hutool.core.io.IoUtil;
 import com.itextpdf.text.Chapter;
 import com.itextpdf.text.Chunk;
 import com.itextpdf.text.Document;
 import com.itextpdf.text.DocumentException;
 import com.itextpdf.text.Element;
-import com.itextpdf.text.Font;
 import com.itextpdf.text.PageSize;
 import com.itextpdf.text.Paragraph;
 import com.itextpdf.text.Section;
 import com.itextpdf.text.pdf.PdfWriter;
 import com.itextpdf.text.pdf.draw.DottedLineSeparator;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -39,6 +43,12 @@ public class PdfExportDocument extends Document {
      */
     private final List<Section> level2SectionList = new LinkedList<>();
 
+    /**
+     * 当前标题路径，下标为标题层级 - 1，添加下级标题时从这里获取上级标题
+     */
+    @Getter(AccessLevel.NONE)
+    private final List<Section> titleStack = new ArrayList<>();
+
     /**
      * pdf 事件监听
      */
@@ -49,11 +59,48 @@ public class PdfExportDocument extends Document {
      */
     private PdfWriter pdfWriter;
 
+    /**
+     * 样式表
+     */
+    private PdfStyleSheet styleSheet = PdfStyleSheet.getDefault();
+
     /**
      * 章节序号
      */
     private int chapterIndex = 1;
 
+    /**
+     * 是否为流式输出模式
+     * 流式输出模式下，添加下一个一级标题时会立即把上一个一级标题排版输出并释放，内存占用只取决于最大的一个章节
+     */
+    private boolean streamingMode;
+
+    /**
+     * 封面模板，为 null 则使用默认封面
+     */
+    private PdfCoverTemplate coverTemplate;
+
+    /**
+     * 封面字段值 键：字段名   值：字段值
+     */
+    private Map<String, String> coverFields;
+
+    /**
+     * 导出指标接收者
+     */
+    private PdfMetricsSink metricsSink = PdfMetricsSink.NONE;
+
+    /**
+     * 导出指标，没有设置指标接收者时为 null
+     */
+    private PdfExportMetrics metrics;
+
+    /**
+     * 输出流，放弃导出时直接关闭
+     */
+    @Getter(AccessLevel.NONE)
+    private OutputStream outputStream;
+
     /**
      * 获取 PdfDocument 实例
      *
@@ -69,7 +116,31 @@ public class PdfExportDocument extends Document {
      * @return -
      */
     public static PdfExportDocument getInstance(OutputStream os, String pageHeader, String pageWatermark) {
+        return PdfExportDocument.getInstance(os, pageHeader, pageWatermark, PdfStyleSheet.getDefault());
+    }
+
+    /**
+     * 获取 PdfDocument 实例
+     *
+     * @param styleSheet 样式表
+     * @return -
+     */
+    public static PdfExportDocument getInstance(OutputStream os, String pageHeader, String pageWatermark, PdfStyleSheet styleSheet) {
+        return PdfExportDocument.getInstance(os, pageHeader, pageWatermark, styleSheet, PdfOutputProfile.BALANCED);
+    }
+
+    /**
+     * 获取 PdfDocument 实例
+     *
+     * @param styleSheet    样式表
+     * @param outputProfile 输出配置
+     * @return -
+     */
+    public static PdfExportDocument getInstance(OutputStream os, String pageHeader, String pageWatermark, PdfStyleSheet styleSheet,
+                                                PdfOutputProfile outputProfile) {
         PdfExportDocument document = new PdfExportDocument();
+        document.styleSheet = styleSheet;
+        document.outputStream = os;
         document.setPageSize(PageSize.A4);
         document.setMargins(36, 36, 48, 48);
         try {
@@ -79,11 +150,67 @@ public class PdfExportDocument extends Document {
         }
         document.pdfWriter.setPageEvent(document.pdfListener);
         document.pdfWriter.setLinearPageMode();
+        outputProfile.apply(document.pdfWriter);
         document.pdfListener.setPageHeader(pageHeader);
         document.pdfListener.setPageWatermark(pageWatermark);
+        document.pdfListener.setStyleSheet(styleSheet);
         return document;
     }
 
+    /**
+     * 导出 pdf：创建并打开文档，构建内容后关闭文档
+     *
+     * @param os      输出流
+     * @param builder 内容构建者
+     */
+    public static void export(OutputStream os, PdfExportBuilder builder) {
+        PdfExportDocument.export(os, PdfStyleSheet.getDefault(), builder);
+    }
+
+    /**
+     * 导出 pdf：创建并打开文档，构建内容后关闭文档
+     * 页眉、水印等可以在构建内容时通过 {@link #getPdfListener()} 设置。
+     * 构建失败时不生成 pdf：通过 {@link #abort()} 放弃导出并关闭输出流，输出流中可能残留不完整的内容
+     *
+     * @param os         输出流
+     * @param styleSheet 样式表
+     * @param builder    内容构建者
+     */
+    public static void export(OutputStream os, PdfStyleSheet styleSheet, PdfExportBuilder builder) {
+        PdfExportDocument document = PdfExportDocument.getInstance(os, null, null, styleSheet);
+        document.open();
+        boolean built = false;
+        try {
+            builder.build(document);
+            built = true;
+        } catch (Exception e) {
+            throw ExceptionUtil.wrapRuntime(e);
+        } finally {
+            if (built) {
+                document.close();
+            } else {
+                document.abort();
+            }
+        }
+    }
+
+    /**
+     * 放弃导出
+     * 不排版正文、封面和目录，直接关闭文档和输出流，不生成 pdf，也不发送导出指标。
+     * 输出流中可能已写入部分内容（如流式输出模式下已排版的页面），这些内容不是完整的 pdf，需要由调用方丢弃
+     */
+    public void abort() {
+        if (!this.open) {
+            return;
+        }
+        this.open = false;
+        this.close = true;
+        this.level1ChapterList.clear();
+        this.level2SectionList.clear();
+        this.titleStack.clear();
+        IoUtil.close(this.outputStream);
+    }
+
     /**
      * 关闭
      */
@@ -91,28 +218,91 @@ public class PdfExportDocument extends Document {
     public void close() {
         try {
             // 添加正文内容
-            this.pdfListener.setCurNode(PdfExportListener.PdfNode.BODY);
-            for (Chapter chapter : this.level1ChapterList) {
-                this.add(chapter);
-            }
+            this.beginPhase(PdfExportMetrics.Phase.BODY);
+            this.flushChapters();
 
             // 添加封面
+            this.beginPhase(PdfExportMetrics.Phase.COVER);
             this.newPage();
             this.pdfListener.setCurNode(PdfExportListener.PdfNode.COVER);
             this.createCover();
 
             // 添加目录
+            this.beginPhase(PdfExportMetrics.Phase.CATALOG);
             this.newPage();
             this.pdfListener.setCurNode(PdfExportListener.PdfNode.CATALOG);
             this.createCatalog();
 
             // 页面重新排序，封面和目录添加到最前面
+            this.beginPhase(PdfExportMetrics.Phase.REORDER);
             this.reorderPage();
         } catch (DocumentException | IOException e) {
             throw new RuntimeException(e);
         }
 
+        this.beginPhase(PdfExportMetrics.Phase.FINISH);
         super.close();
+        this.reportMetrics();
+    }
+
+    @Override
+    public boolean add(Element element) throws DocumentException {
+        this.recordElement(element);
+        return super.add(element);
+    }
+
+    /**
+     * 设置封面，封面只导入不重新排版
+     *
+     * @param coverTemplate 封面模板
+     * @param coverFields   封面字段值 键：字段名   值：字段值。可以为 null
+     */
+    public void setCover(PdfCoverTemplate coverTemplate, Map<String, String> coverFields) {
+        this.coverTemplate = coverTemplate;
+        this.coverFields = coverFields;
+    }
+
+    /**
+     * 设置导出指标接收者，需要在添加内容之前设置
+     * 文档关闭后把各阶段耗时、内存分配量、页数、输出字节数、表格行数等指标发送给接收者
+     *
+     * @param metricsSink 导出指标接收者，为 null 或 {@link PdfMetricsSink#NONE} 则不统计
+     */
+    public void setMetricsSink(PdfMetricsSink metricsSink) {
+        this.metricsSink = metricsSink == null ? PdfMetricsSink.NONE : metricsSink;
+        this.metrics = this.metricsSink == PdfMetricsSink.NONE ? null : new PdfExportMetrics();
+    }
+
+    /**
+     * 统计将要排版的元素
+     *
+     * @param element 元素
+     */
+    void recordElement(Element element) {
+        if (this.metrics != null) {
+            this.metrics.countTables(element);
+        }
+    }
+
+    /**
+     * 开始文档关闭的下一阶段
+     *
+     * @param phase 阶段
+     */
+    private void beginPhase(PdfExportMetrics.Phase phase) {
+        if (this.metrics != null) {
+            this.metrics.beginPhase(phase);
+        }
+    }
+
+    /**
+     * 发送导出指标
+     */
+    private void reportMetrics() {
+        if (this.metrics != null) {
+            this.metrics.finish(this.pdfListener, this.pdfWriter.getOs().getCounter());
+            this.metricsSink.report(this.metrics);
+        }
     }
 
     /**
@@ -123,19 +313,37 @@ public class PdfExportDocument extends Document {
      * @return 一级标题
      */
     public Chapter addLevel1Title(String title) {
-        Font font = new Font(PdfExportUtil.getSimheiBaseFont(), 16, Font.BOLD);
-        Chunk chunk = new Chunk(title, font);
-        Paragraph paragraph = new Paragraph(chunk);
-        paragraph.setAlignment(Element.ALIGN_CENTER);
-        paragraph.setSpacingBefore(23);
-        paragraph.setSpacingAfter(23);
-        paragraph.setLeading(23);
-        Chapter chapter = new Chapter(paragraph, this.chapterIndex++);
+        return this.addLevel1Title(title, null);
+    }
+
+    /**
+     * 添加一级标题，章节内容在排版时才通过内容提供者生成
+     *
+     * @param title    标题内容
+     * @param supplier 内容提供者，排版到该章节时才调用，生成的内容位于标题之后。为 null 则与 {@link #addLevel1Title(String)} 一致
+     * @return 一级标题
+     */
+    public Chapter addLevel1Title(String title, PdfContentSupplier supplier) {
+        if (this.streamingMode) {
+            // 上一个一级标题已经完成，直接排版输出
+            try {
+                this.flushChapters();
+            } catch (DocumentException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        Chunk chunk = new Chunk(title, this.styleSheet.getLevel1TitleFont());
+        Paragraph paragraph = this.styleSheet.newTitleParagraph(1, chunk);
+        Chapter chapter = supplier == null
+                ? new Chapter(paragraph, this.chapterIndex++) : new PdfLazyChapter(paragraph, this.chapterIndex++, supplier, this);
         chapter.setNumberDepth(1);
         // 去掉标题最后面默认添加的点
         chapter.setNumberStyle(Section.NUMBERSTYLE_DOTTED_WITHOUT_FINAL_DOT);
-        chunk.setLocalDestination(chapter.getTitle().getContent().replaceFirst("^.*?\\s", ""));
+        this.pdfListener.getHeadingIndex().add(1, chunk);
         this.level1ChapterList.add(chapter);
+        this.titleStack.clear();
+        this.titleStack.add(chapter);
         return chapter;
     }
 
@@ -147,19 +355,18 @@ public class PdfExportDocument extends Document {
      * @return 二级标题
      */
     public Section addLevel2Title(String title) {
-        Font font = new Font(PdfExportUtil.getSimheiBaseFont(), 14, Font.NORMAL);
-        Chunk chunk = new Chunk(title, font);
-        Paragraph paragraph = new Paragraph(chunk);
-        paragraph.setAlignment(Element.ALIGN_LEFT);
-        paragraph.setSpacingBefore(11.5f);
-        paragraph.setSpacingAfter(11.5f);
-        paragraph.setLeading(23);
-        Section section = CollUtil.getLast(level1ChapterList).addSection(paragraph);
-        // 去掉标题最后面默认添加的点
-        section.setNumberStyle(Section.NUMBERSTYLE_DOTTED_WITHOUT_FINAL_DOT);
-        chunk.setLocalDestination(section.getTitle().getContent().replaceFirst("^.*?\\s", ""));
-        level2SectionList.add(section);
-        return section;
+        return this.addLevel2Title(title, null);
+    }
+
+    /**
+     * 添加二级标题，小节内容在排版时才通过内容提供者生成
+     *
+     * @param title    标题内容
+     * @param supplier 内容提供者，排版到该小节时才调用，生成的内容位于标题之后。为 null 则与 {@link #addLevel2Title(String)} 一致
+     * @return 二级标题
+     */
+    public Section addLevel2Title(String title, PdfContentSupplier supplier) {
+        return this.addTitle(2, title, supplier);
     }
 
     /**
@@ -170,28 +377,215 @@ public class PdfExportDocument extends Document {
      * @return 三级标题
      */
     public Section addLevel3Title(String title) {
-        Font font = new Font(PdfExportUtil.getSimheiBaseFont(), 12, Font.NORMAL);
-        Chunk chunk = new Chunk(title, font);
-        Paragraph paragraph = new Paragraph(chunk);
-        paragraph.setAlignment(Element.ALIGN_LEFT);
-        paragraph.setSpacingBefore(11.5f);
-        paragraph.setSpacingAfter(11.5f);
-        paragraph.setLeading(23);
-        Section section = CollUtil.getLast(level2SectionList).addSection(paragraph);
+        return this.addLevel3Title(title, null);
+    }
+
+    /**
+     * 添加三级标题，小节内容在排版时才通过内容提供者生成
+     *
+     * @param title    标题内容
+     * @param supplier 内容提供者，排版到该小节时才调用，生成的内容位于标题之后。为 null 则与 {@link #addLevel3Title(String)} 一致
+     * @return 三级标题
+     */
+    public Section addLevel3Title(String title, PdfContentSupplier supplier) {
+        return this.addTitle(3, title, supplier);
+    }
+
+    /**
+     * 添加任意层级的标题，位于上一级标题之下
+     * 四级及以下标题与三级标题样式一致
+     *
+     * @param level 标题层级，从 1 开始
+     * @param title 标题内容
+     * @return 标题
+     */
+    public Section addTitle(int level, String title) {
+        return this.addTitle(level, title, null);
+    }
+
+    /**
+     * 添加任意层级的标题，小节内容在排版时才通过内容提供者生成
+     *
+     * @param level    标题层级，从 1 开始
+     * @param title    标题内容
+     * @param supplier 内容提供者，排版到该小节时才调用，生成的内容位于标题之后。可以为 null
+     * @return 标题
+     */
+    public Section addTitle(int level, String title, PdfContentSupplier supplier) {
+        if (level <= 1) {
+            return this.addLevel1Title(title, supplier);
+        }
+        if (this.titleStack.size() < level - 1) {
+            throw new IllegalStateException("添加 " + level + " 级标题之前需要先添加 " + (level - 1) + " 级标题");
+        }
+        Chunk chunk = new Chunk(title, this.styleSheet.getTitleFont(level));
+        Paragraph paragraph = this.styleSheet.newTitleParagraph(level, chunk);
+        Section section = addSection(this.titleStack.get(level - 2), paragraph, supplier);
         // 去掉标题最后面默认添加的点
         section.setNumberStyle(Section.NUMBERSTYLE_DOTTED_WITHOUT_FINAL_DOT);
-        chunk.setLocalDestination(section.getTitle().getContent().replaceFirst("^.*?\\s", ""));
+        this.pdfListener.getHeadingIndex().add(level, chunk);
+
+        this.titleStack.subList(level - 1, this.titleStack.size()).clear();
+        this.titleStack.add(section);
+        if (level == 2) {
+            this.level2SectionList.add(section);
+        }
         return section;
     }
 
+    /**
+     * 添加下级标题
+     *
+     * @param parent   上级标题
+     * @param title    标题段落
+     * @param supplier 内容提供者，可以为 null
+     * @return 下级标题
+     */
+    private Section addSection(Section parent, Paragraph title, PdfContentSupplier supplier) {
+        if (supplier == null) {
+            return parent.addSection(title);
+        }
+        Section section = new PdfLazySection(title, parent.getNumberDepth() + 1, supplier, this);
+        parent.add(section);
+        return section;
+    }
+
+    /**
+     * 设置是否为流式输出模式，需要在添加一级标题之前、文档打开之后设置
+     * 流式输出模式下，添加下一个一级标题时会把之前的一级标题写入 pdf 并释放，之后不能再向之前的一级标题添加内容
+     *
+     * @param streamingMode 是否为流式输出模式
+     */
+    public void setStreamingMode(boolean streamingMode) {
+        this.streamingMode = streamingMode;
+    }
+
+    /**
+     * 排版输出已添加的一级标题，输出后释放
+     * PdfWriter 会把排版完成的页面直接写入输出流，封面和目录最后生成后再通过页面重新排序调整到最前面
+     *
+     * @throws DocumentException -
+     */
+    private void flushChapters() throws DocumentException {
+        this.pdfListener.setCurNode(PdfExportListener.PdfNode.BODY);
+        for (Chapter chapter : this.level1ChapterList) {
+            // 流式表格可能把最后的章节标记为未完成
+            setLastSectionsComplete(chapter, true);
+            this.add(chapter);
+        }
+        this.level1ChapterList.clear();
+        this.level2SectionList.clear();
+        this.titleStack.clear();
+    }
+
+    /**
+     * 添加流式正文，适用于日志、合同原文等很长的文本
+     * 文本在排版时（文档关闭或流式输出时）才逐段读取，每一行生成一个正文样式的段落，空白行被忽略。
+     * 内存占用与文本长度无关，Reader 在排版之前需要保持可用，读取完成后自动关闭
+     *
+     * @param section 标题
+     * @param reader  文本
+     */
+    public void addText(Section section, Reader reader) {
+        section.add(new PdfStreamingText(reader, this.styleSheet));
+    }
+
+    /**
+     * 添加流式 list 类型表格，列宽相同
+     *
+     * @param header    表格头 键：表头中文名   值：单元格内容对应的字段名
+     * @param flushRows 每多少行输出一次
+     * @return 流式表格，添加完所有行后需要关闭
+     */
+    public PdfStreamingTable addStreamingListTable(Map<String, String> header, int flushRows) {
+        float[] cellsWidthConfig = new float[header.size()];
+        Arrays.fill(cellsWidthConfig, 1);
+        return this.addStreamingListTable(header, cellsWidthConfig, flushRows);
+    }
+
+    /**
+     * 添加流式 list 类型表格
+     * 表格位于当前最后一个标题已添加内容之后，之前的章节及当前章节已添加的内容会先排版输出。
+     * 表格关闭之后可以继续向当前标题添加内容，内容位于表格之后。
+     *
+     * @param header           表格头 键：表头中文名   值：单元格内容对应的字段名
+     * @param cellsWidthConfig 单元格宽度配置
+     * @param flushRows        每多少行输出一次
+     * @return 流式表格，添加完所有行后需要关闭
+     */
+    public PdfStreamingTable addStreamingListTable(Map<String, String> header, float[] cellsWidthConfig, int flushRows) {
+        String[] headerNames = new String[header.size() + 1];
+        String[] columnKeys = new String[header.size() + 1];
+        headerNames[0] = "序号";
+        columnKeys[0] = PdfMapTableRows.INDEX_KEY;
+        int column = 1;
+        for (Map.Entry<String, String> entry : header.entrySet()) {
+            headerNames[column] = entry.getKey();
+            columnKeys[column] = entry.getValue();
+            column++;
+        }
+
+        try {
+            this.flushChaptersPartially();
+        } catch (DocumentException e) {
+            throw new RuntimeException(e);
+        }
+        return new PdfStreamingTable(this, headerNames, columnKeys, cellsWidthConfig, flushRows);
+    }
+
+    /**
+     * 排版输出之前的章节和当前章节已添加的内容
+     * 当前章节及其最后的下级标题标记为未完成，输出后仍然可以继续添加内容
+     *
+     * @throws DocumentException -
+     */
+    private void flushChaptersPartially() throws DocumentException {
+        Chapter current = CollUtil.getLast(this.level1ChapterList);
+        if (current == null) {
+            this.pdfListener.setCurNode(PdfExportListener.PdfNode.BODY);
+            return;
+        }
+        List<Section> currentTitles = new ArrayList<>(this.titleStack);
+        this.level1ChapterList.remove(current);
+        this.flushChapters();
+
+        setLastSectionsComplete(current, false);
+        this.add(current);
+        this.level1ChapterList.add(current);
+        this.titleStack.addAll(currentTitles);
+        if (currentTitles.size() > 1) {
+            this.level2SectionList.add(currentTitles.get(1));
+        }
+    }
+
+    /**
+     * 设置标题及其最后一个下级标题（逐级向下）是否已完成
+     *
+     * @param section 标题
+     * @param complete 是否已完成
+     */
+    private static void setLastSectionsComplete(Section section, boolean complete) {
+        Section current = section;
+        while (current != null) {
+            current.setComplete(complete);
+            Element last = current.isEmpty() ? null : current.get(current.size() - 1);
+            current = last instanceof Section ? (Section) last : null;
+        }
+    }
+
     /**
      * 创建封面
      *
      * @throws DocumentException -
+     * @throws IOException -
      */
-    private void createCover() throws DocumentException {
+    private void createCover() throws DocumentException, IOException {
         this.newPage();
-        Paragraph paragraph = PdfExportUtil.getMainTextParagraph("封面");
+        if (this.coverTemplate != null) {
+            this.coverTemplate.stamp(this.pdfWriter, this.coverFields);
+            return;
+        }
+        Paragraph paragraph = this.styleSheet.newBodyParagraph("封面");
         this.add(paragraph);
     }
 
@@ -203,8 +597,7 @@ public class PdfExportDocument extends Document {
      */
     private void createCatalog() throws DocumentException, IOException {
         // 目录章节
-        Font font = new Font(PdfExportUtil.getSimsunBaseFont(), 16, Font.BOLD);
-        Paragraph catalog = new Paragraph("目  录", font);
+        Paragraph catalog = new Paragraph("目  录", this.styleSheet.getCatalogTitleFont());
         catalog.setAlignment(Element.ALIGN_CENTER);
         catalog.setSpacingBefore(12.5f);
         catalog.setSpacingAfter(12.5f);
@@ -212,49 +605,30 @@ public class PdfExportDocument extends Document {
         catalogChapter.setNumberDepth(0);
 
         // 添加章节目录
-        for (Map.Entry<String, Integer> entry : this.pdfListener.titlePageMap.entrySet()) {
-            String title = entry.getKey();
-            Integer page = entry.getValue();
-            int titleLevel = CharSequenceUtil.count(title, ".");
+        DottedLineSeparator separator = new DottedLineSeparator();
+        for (PdfHeading heading : this.pdfListener.getHeadingIndex().getHeadings()) {
+            if (!heading.isLaidOut()) {
+                continue;
+            }
+            String destination = heading.getDestination();
 
             Paragraph paragraph = new Paragraph();
             paragraph.setAlignment(Element.ALIGN_LEFT);
             paragraph.setLeading(25);
-            // 一级标题字体样式 黑体 四号 左对齐 行距: 25磅
-            Font titleFont = new Font(PdfExportUtil.getSimheiBaseFont(), 14, Font.NORMAL);
-            switch (titleLevel) {
-                case 0:
-                    // 一级标题
-                    Chunk level1Chunk = new Chunk(title, titleFont);
-                    level1Chunk.setLocalGoto(title.replaceFirst("^.*?\\s", ""));
-                    paragraph.add(level1Chunk);
-                    break;
-                case 1:
-                    // 二级标题 字体：宋体，字号：四号。段落：左对齐，行距：固定值，25磅（pt）。
-                    titleFont = new Font(PdfExportUtil.getSimsunBaseFont(), 14, Font.NORMAL);
-                    Chunk level2Chunk = new Chunk(title, titleFont);
-                    level2Chunk.setLocalGoto(title.replaceFirst("^.*?\\s", ""));
-                    paragraph.add(level2Chunk);
-                    break;
-                case 2:
-                    // 三级标题 字体：宋体，字号：四号。段落：左对齐，行距：固定值，25磅（pt）
-                    titleFont = new Font(PdfExportUtil.getSimsunBaseFont(), 12, Font.NORMAL);
-                    Chunk level3Chunk = new Chunk(title, titleFont);
-                    level3Chunk.setLocalGoto(title.replaceFirst("^.*?\\s", ""));
-                    paragraph.add(level3Chunk);
-                    break;
-                default:
-                    break;
-            }
+
+            // 一级标题 黑体 四号；二级标题 宋体 四号；三级及以下标题 宋体 小四号
+            Chunk titleChunk = new Chunk(heading.getNumberedTitle(), this.styleSheet.getCatalogFont(heading.getLevel()));
+            titleChunk.setLocalGoto(destination);
+            paragraph.add(titleChunk);
 
             // ........................
-            Chunk dottedChunk = new Chunk(new DottedLineSeparator());
-            dottedChunk.setLocalGoto(title.replaceFirst("^.*?\\s", ""));
+            Chunk dottedChunk = new Chunk(separator);
+            dottedChunk.setLocalGoto(destination);
             paragraph.add(dottedChunk);
 
             // 页码
-            Chunk pageChunk = new Chunk(page + "");
-            pageChunk.setLocalGoto(title.replaceFirst("^.*?\\s", ""));
+            Chunk pageChunk = new Chunk(String.valueOf(heading.getPage()));
+            pageChunk.setLocalGoto(destination);
             paragraph.add(pageChunk);
 
             // 添加章节
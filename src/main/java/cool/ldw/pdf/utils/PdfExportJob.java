@@ -0,0 +1,30 @@
+package cool.ldw.pdf.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * pdf 导出任务
+ * 由 {@link PdfBatchExportService} 在工作线程中执行，每个任务使用独立的文档，任务之间只共享字体和样式表
+ *
+ * @author ldwcool
+ */
+public interface PdfExportJob extends PdfExportBuilder {
+
+    /**
+     * 获取任务名称，用于区分导出结果
+     *
+     * @return 任务名称
+     */
+    String getName();
+
+    /**
+     * 打开输出流，导出完成或失败后由导出服务关闭
+     * 导出失败时不生成 pdf，输出流中可能残留不完整的内容，需要根据导出结果丢弃
+     *
+     * @return 输出流
+     * @throws IOException 打开失败
+     */
+    OutputStream openOutputStream() throws IOException;
+
+}
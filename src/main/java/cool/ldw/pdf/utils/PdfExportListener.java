@@ -2,20 +2,28 @@ package cool.ldw.pdf.utils;
 
 import cn.hutool.core.util.StrUtil;
 import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
 import com.itextpdf.text.Element;
+import com.itextpdf.text.Font;
+import com.itextpdf.text.Image;
 import com.itextpdf.text.PageSize;
 import com.itextpdf.text.Paragraph;
 import com.itextpdf.text.Phrase;
 import com.itextpdf.text.Rectangle;
+import com.itextpdf.text.pdf.BaseFont;
 import com.itextpdf.text.pdf.ColumnText;
 import com.itextpdf.text.pdf.PdfContentByte;
+import com.itextpdf.text.pdf.PdfGState;
 import com.itextpdf.text.pdf.PdfPCell;
 import com.itextpdf.text.pdf.PdfPTable;
 import com.itextpdf.text.pdf.PdfPageEventHelper;
+import com.itextpdf.text.pdf.PdfTemplate;
 import com.itextpdf.text.pdf.PdfWriter;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.EnumMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -41,9 +49,16 @@ public class PdfExportListener extends PdfPageEventHelper {
 
     /**
      * 键：标题序号   值：标题所在页码
+     * 标题内容相同时会相互覆盖，请使用 {@link #getHeadingIndex()}
      */
     public Map<String, Integer> titlePageMap = new LinkedHashMap<>();
 
+    /**
+     * 标题索引
+     */
+    @Setter(AccessLevel.NONE)
+    private final PdfHeadingIndex headingIndex = new PdfHeadingIndex();
+
     /**
      * 当前处理的 pdf 节点
      */
@@ -59,6 +74,43 @@ public class PdfExportListener extends PdfPageEventHelper {
      */
     private String pageWatermark;
 
+    /**
+     * 页脚是否显示总页数，如：第 1 页 / 共 10 页
+     * 总页数在文档关闭时一次性填入，不需要两次生成
+     */
+    private boolean showTotalPage;
+
+    /**
+     * 图片水印，与文字水印同时设置时都会显示
+     */
+    private Image pageWatermarkImage;
+
+    /**
+     * 样式表
+     */
+    private PdfStyleSheet styleSheet = PdfStyleSheet.getDefault();
+
+    /**
+     * 水印模板，每个文档只排版一次，每页引用同一个 XObject
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private PdfTemplate watermarkTemplate;
+
+    /**
+     * 页眉模板，每个文档只排版一次，每页引用同一个 XObject
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private PdfTemplate headerTemplate;
+
+    /**
+     * 总页数占位模板 键：pdf 节点   值：总页数模板
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Map<PdfNode, PdfTemplate> totalPageTemplateMap = new EnumMap<>(PdfNode.class);
+
     @Override
     public void onStartPage(PdfWriter writer, Document document) {
         if (Objects.equals(curNode, PdfNode.CATALOG)) {
@@ -70,6 +122,10 @@ public class PdfExportListener extends PdfPageEventHelper {
 
     @Override
     public void onChapter(PdfWriter writer, Document document, float paragraphPosition, Paragraph title) {
+        PdfHeading heading = this.headingIndex.find(title);
+        if (heading != null) {
+            heading.laidOut(title.getContent(), bodyPage);
+        }
         titlePageMap.put(title.getContent(), bodyPage);
     }
 
@@ -98,6 +154,7 @@ public class PdfExportListener extends PdfPageEventHelper {
                 this.addPageHeader(writer);
                 this.addPageFooter(writer);
                 this.addPageWatermark(writer);
+                break;
             default:
                 // 添加水印
                 this.addPageWatermark(writer);
@@ -105,6 +162,17 @@ public class PdfExportListener extends PdfPageEventHelper {
         }
     }
 
+    @Override
+    public void onCloseDocument(PdfWriter writer, Document document) {
+        // 填写总页数，正文和目录在最后一页结束后都会多计一页
+        for (Map.Entry<PdfNode, PdfTemplate> entry : this.totalPageTemplateMap.entrySet()) {
+            int totalPage = Objects.equals(entry.getKey(), PdfNode.CATALOG) ? this.catalogPage - 1 : this.bodyPage - 1;
+            Font font = this.styleSheet.getPageHeaderFont();
+            ColumnText.showTextAligned(entry.getValue(), Element.ALIGN_LEFT, new Phrase(totalPage + " 页", font),
+                    0, getFontDescent(font), 0);
+        }
+    }
+
     /**
      * 添加页眉
      *
@@ -112,38 +180,127 @@ public class PdfExportListener extends PdfPageEventHelper {
      */
     private void addPageHeader(PdfWriter writer) {
         if (StrUtil.isNotBlank(pageHeader)) {
-            // 页眉内容
-            PdfPTable table = new PdfPTable(1);
-            //设置表格宽度 A4纸宽度减去两个边距  比如我一边30  所以减去60
-            table.setTotalWidth(PageSize.A4.getWidth() - 60);
-
-            PdfPCell cell = new PdfPCell(new Phrase(this.pageHeader, PdfExportUtil.getPageHeaderFont()));
-            // 只保留底部边框和设置高度 设置水平居右和垂直居中
-            cell.disableBorderSide(13);
-            cell.setFixedHeight(20);
-            cell.setHorizontalAlignment(Element.ALIGN_RIGHT);
-            cell.setVerticalAlignment(Element.ALIGN_BOTTOM);
-            table.addCell(cell);
-
-            // 再把表格写到页眉处  使用绝对定位
-            table.writeSelectedRows(0, -1, 30, PageSize.A4.getHeight() - 14, writer.getDirectContent());
+            if (this.headerTemplate == null) {
+                this.headerTemplate = this.createHeaderTemplate(writer);
+            }
+            // 再把模板写到页眉处  使用绝对定位
+            writer.getDirectContent().addTemplate(this.headerTemplate,
+                    30 - 1, PageSize.A4.getHeight() - 14 - this.headerTemplate.getHeight() + 1);
         }
     }
 
+    /**
+     * 创建页眉模板
+     *
+     * @param writer -
+     * @return 页眉模板
+     */
+    private PdfTemplate createHeaderTemplate(PdfWriter writer) {
+        // 页眉内容
+        PdfPTable table = new PdfPTable(1);
+        //设置表格宽度 A4纸宽度减去两个边距  比如我一边30  所以减去60
+        table.setTotalWidth(PageSize.A4.getWidth() - 60);
+
+        PdfPCell cell = new PdfPCell(new Phrase(this.pageHeader, this.styleSheet.getPageHeaderFont()));
+        // 只保留底部边框和设置高度 设置水平居右和垂直居中
+        cell.disableBorderSide(13);
+        cell.setFixedHeight(20);
+        cell.setHorizontalAlignment(Element.ALIGN_RIGHT);
+        cell.setVerticalAlignment(Element.ALIGN_BOTTOM);
+        table.addCell(cell);
+
+        // 模板四周各留 1 磅，避免边框线被裁剪
+        float height = table.getTotalHeight();
+        PdfTemplate template = writer.getDirectContent().createTemplate(table.getTotalWidth() + 2, height + 2);
+        table.writeSelectedRows(0, -1, 1, height + 1, template);
+        return template;
+    }
+
+    /**
+     * 设置页眉，文档生成过程中修改会重新排版页眉
+     *
+     * @param pageHeader 页眉
+     */
+    public void setPageHeader(String pageHeader) {
+        this.pageHeader = pageHeader;
+        this.headerTemplate = null;
+    }
+
     /**
      * 添加水印
      *
      * @param writer -
      */
     private void addPageWatermark(PdfWriter writer) {
-        if (StrUtil.isNotBlank(this.pageWatermark)) {
-            Rectangle rectangle = writer.getPageSize();
+        if (StrUtil.isBlank(this.pageWatermark) && this.pageWatermarkImage == null) {
+            return;
+        }
+        if (this.watermarkTemplate == null) {
+            this.watermarkTemplate = this.createWatermarkTemplate(writer);
+        }
+        Rectangle rectangle = writer.getPageSize();
+        writer.getDirectContentUnder().addTemplate(this.watermarkTemplate, rectangle.getLeft(), rectangle.getBottom());
+    }
+
+    /**
+     * 创建水印模板
+     * 水印只排版一次，透明度取水印字体颜色的透明度
+     *
+     * @param writer -
+     * @return 水印模板
+     */
+    private PdfTemplate createWatermarkTemplate(PdfWriter writer) {
+        Rectangle rectangle = writer.getPageSize();
+        PdfTemplate template = writer.getDirectContent().createTemplate(rectangle.getWidth(), rectangle.getHeight());
 
-            // 水印内容
-            ColumnText.showTextAligned(writer.getDirectContentUnder(),
-                    Element.ALIGN_CENTER, new Phrase(pageWatermark, PdfExportUtil.getPageWatermarkFont()),
-                    rectangle.getRight() / 2, rectangle.getTop() / 2, 33);
+        Font font = this.styleSheet.getPageWatermarkFont();
+        PdfGState gState = new PdfGState();
+        gState.setFillOpacity(font.getColor() == null ? 1 : font.getColor().getAlpha() / 255f);
+        template.saveState();
+        template.setGState(gState);
+
+        // 图片水印 居中，最大占页面宽度的一半
+        if (this.pageWatermarkImage != null) {
+            float width = this.pageWatermarkImage.getWidth();
+            float height = this.pageWatermarkImage.getHeight();
+            float scale = Math.min(1, rectangle.getWidth() / 2 / width);
+            width *= scale;
+            height *= scale;
+            try {
+                template.addImage(this.pageWatermarkImage, width, 0, 0, height,
+                        (rectangle.getWidth() - width) / 2, (rectangle.getHeight() - height) / 2);
+            } catch (DocumentException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        // 文字水印
+        if (StrUtil.isNotBlank(this.pageWatermark)) {
+            ColumnText.showTextAligned(template, Element.ALIGN_CENTER, new Phrase(this.pageWatermark, font),
+                    rectangle.getWidth() / 2, rectangle.getHeight() / 2, 33);
         }
+        template.restoreState();
+        return template;
+    }
+
+    /**
+     * 设置水印，文档生成过程中修改会重新排版水印
+     *
+     * @param pageWatermark 水印
+     */
+    public void setPageWatermark(String pageWatermark) {
+        this.pageWatermark = pageWatermark;
+        this.watermarkTemplate = null;
+    }
+
+    /**
+     * 设置图片水印，文档生成过程中修改会重新排版水印
+     *
+     * @param pageWatermarkImage 图片水印
+     */
+    public void setPageWatermarkImage(Image pageWatermarkImage) {
+        this.pageWatermarkImage = pageWatermarkImage;
+        this.watermarkTemplate = null;
     }
 
     /**
@@ -156,10 +313,38 @@ public class PdfExportListener extends PdfPageEventHelper {
         Rectangle rectangle = writer.getPageSize();
 
         int page = Objects.equals(this.curNode, PdfNode.CATALOG) ? catalogPage : bodyPage;
+        Font font = this.styleSheet.getPageHeaderFont();
+
+        if (!this.showTotalPage) {
+            // 页脚内容
+            ColumnText.showTextAligned(canvas, Element.ALIGN_CENTER, new Phrase(page + "", font),
+                    rectangle.getRight() / 2, rectangle.getBottom() + 20, 0);
+            return;
+        }
 
-        // 页脚内容
-        ColumnText.showTextAligned(canvas, Element.ALIGN_CENTER, new Phrase(page + "", PdfExportUtil.getPageHeaderFont()),
-                rectangle.getRight() / 2, rectangle.getBottom() + 20, 0);
+        // 页脚内容 第 X 页 / 共 Y 页，总页数使用占位模板，文档关闭时填写
+        PdfTemplate totalPageTemplate = this.totalPageTemplateMap.get(this.curNode);
+        BaseFont baseFont = font.getCalculatedBaseFont(false);
+        if (totalPageTemplate == null) {
+            totalPageTemplate = canvas.createTemplate(baseFont.getWidthPoint("0000 页", font.getSize()), font.getSize() * 2);
+            this.totalPageTemplateMap.put(this.curNode, totalPageTemplate);
+        }
+        String text = "第 " + page + " 页 / 共 ";
+        float textWidth = baseFont.getWidthPoint(text, font.getSize());
+        float x = rectangle.getRight() / 2 - (textWidth + totalPageTemplate.getWidth()) / 2;
+        float y = rectangle.getBottom() + 20;
+        ColumnText.showTextAligned(canvas, Element.ALIGN_LEFT, new Phrase(text, font), x, y, 0);
+        canvas.addTemplate(totalPageTemplate, x + textWidth, y - getFontDescent(font));
+    }
+
+    /**
+     * 获取字体下沉高度（正数）
+     *
+     * @param font 字体
+     * @return 下沉高度
+     */
+    private static float getFontDescent(Font font) {
+        return -font.getCalculatedBaseFont(false).getFontDescriptor(BaseFont.DESCENT, font.getSize());
     }
 
     /**
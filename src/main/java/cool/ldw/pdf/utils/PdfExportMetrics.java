@@ -0,0 +1,252 @@
+package cool.ldw.pdf.utils;
+
+import com.itextpdf.text.Element;
+import com.itextpdf.text.pdf.PdfPCell;
+import com.itextpdf.text.pdf.PdfPRow;
+import com.itextpdf.text.pdf.PdfPTable;
+import lombok.Getter;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * pdf 导出指标
+ * 记录文档关闭时各阶段的耗时和内存分配量，以及页数、输出字节数、表格行数、单元格数、字体加载次数。
+ * 内存分配量为执行线程的分配字节数，当前 JVM 不支持时为 -1
+ *
+ * @author ldwcool
+ */
+public class PdfExportMetrics {
+
+    /**
+     * 各阶段耗时（纳秒），下标为阶段序号
+     */
+    private final long[] phaseNanos = new long[Phase.values().length];
+
+    /**
+     * 各阶段内存分配量（字节），下标为阶段序号
+     */
+    private final long[] phaseAllocatedBytes = new long[Phase.values().length];
+
+    /**
+     * 正文页数
+     */
+    @Getter
+    private int bodyPages;
+
+    /**
+     * 目录页数
+     */
+    @Getter
+    private int catalogPages;
+
+    /**
+     * 输出字节数
+     */
+    @Getter
+    private long outputBytes;
+
+    /**
+     * 表格数
+     */
+    @Getter
+    private int tableCount;
+
+    /**
+     * 表格行数，包括表格头
+     */
+    @Getter
+    private long tableRows;
+
+    /**
+     * 单元格数
+     */
+    @Getter
+    private long tableCells;
+
+    /**
+     * 导出期间进程内的字体加载次数
+     * 取自 {@link PdfFontRegistry#getMissCount()} 在导出开始和结束时的差值，是全局计数；
+     * 多个文档并行导出时包含其他导出触发的字体加载，不能按文档累加
+     */
+    @Getter
+    private long globalFontLoads;
+
+    /**
+     * 字体加载次数起始值
+     */
+    private final long fontMissCountStart = PdfFontRegistry.getMissCount();
+
+    /**
+     * 已统计过的表格，流式表格会多次添加，表格头只统计一次
+     */
+    private final Set<PdfPTable> countedTables = Collections.newSetFromMap(new WeakHashMap<PdfPTable, Boolean>());
+
+    /**
+     * 当前阶段
+     */
+    private Phase currentPhase;
+
+    /**
+     * 当前阶段开始时间
+     */
+    private long phaseStartNanos;
+
+    /**
+     * 当前阶段开始时的内存分配量
+     */
+    private long phaseStartBytes;
+
+    PdfExportMetrics() {
+    }
+
+    /**
+     * 获取阶段耗时（纳秒）
+     *
+     * @param phase 阶段
+     * @return 耗时
+     */
+    public long getPhaseNanos(Phase phase) {
+        return this.phaseNanos[phase.ordinal()];
+    }
+
+    /**
+     * 获取阶段耗时（毫秒）
+     *
+     * @param phase 阶段
+     * @return 耗时
+     */
+    public long getPhaseMillis(Phase phase) {
+        return this.phaseNanos[phase.ordinal()] / 1000000;
+    }
+
+    /**
+     * 获取阶段内存分配量
+     *
+     * @param phase 阶段
+     * @return 分配字节数，不支持时为 -1
+     */
+    public long getPhaseAllocatedBytes(Phase phase) {
+        return this.phaseAllocatedBytes[phase.ordinal()];
+    }
+
+    /**
+     * 结束当前阶段并开始下一阶段
+     *
+     * @param phase 下一阶段，为 null 则只结束当前阶段
+     */
+    void beginPhase(Phase phase) {
+        long now = System.nanoTime();
+        long bytes = currentThreadAllocatedBytes();
+        if (this.currentPhase != null) {
+            int index = this.currentPhase.ordinal();
+            this.phaseNanos[index] += now - this.phaseStartNanos;
+            this.phaseAllocatedBytes[index] = bytes < 0 || this.phaseStartBytes < 0
+                    ? -1 : this.phaseAllocatedBytes[index] + bytes - this.phaseStartBytes;
+        }
+        this.currentPhase = phase;
+        this.phaseStartNanos = now;
+        this.phaseStartBytes = bytes;
+    }
+
+    /**
+     * 统计元素中的表格
+     *
+     * @param element 元素，标题、段落会逐级统计其中的表格
+     */
+    void countTables(Element element) {
+        if (element instanceof PdfPTable) {
+            PdfPTable table = (PdfPTable) element;
+            // 流式表格再次添加时只包含新的行和重复的表格头
+            int firstRow = this.countedTables.add(table) ? 0 : table.getHeaderRows();
+            if (firstRow == 0) {
+                this.tableCount++;
+            }
+            List<PdfPRow> rows = table.getRows();
+            for (int i = firstRow; i < rows.size(); i++) {
+                this.tableRows++;
+                for (PdfPCell cell : rows.get(i).getCells()) {
+                    if (cell != null) {
+                        this.tableCells++;
+                    }
+                }
+            }
+        } else if (element instanceof List) {
+            for (Object child : (List<?>) element) {
+                if (child instanceof Element) {
+                    this.countTables((Element) child);
+                }
+            }
+        }
+    }
+
+    /**
+     * 结束统计
+     *
+     * @param listener 事件监听
+     * @param outputBytes 输出字节数
+     */
+    void finish(PdfExportListener listener, long outputBytes) {
+        this.beginPhase(null);
+        this.bodyPages = listener.getBodyPage() - 1;
+        this.catalogPages = listener.getCatalogPage() - 1;
+        this.outputBytes = outputBytes;
+        this.globalFontLoads = PdfFontRegistry.getMissCount() - this.fontMissCountStart;
+        this.countedTables.clear();
+    }
+
+    /**
+     * 获取当前线程的内存分配量
+     *
+     * @return 分配字节数，不支持时为 -1
+     */
+    private static long currentThreadAllocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+        try {
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        } catch (UnsupportedOperationException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (Phase phase : Phase.values()) {
+            builder.append(phase).append('=').append(this.getPhaseMillis(phase)).append("ms/")
+                    .append(this.getPhaseAllocatedBytes(phase)).append("B, ");
+        }
+        return builder.append("bodyPages=").append(this.bodyPages)
+                .append(", catalogPages=").append(this.catalogPages)
+                .append(", outputBytes=").append(this.outputBytes)
+                .append(", tables=").append(this.tableCount)
+                .append(", tableRows=").append(this.tableRows)
+                .append(", tableCells=").append(this.tableCells)
+                .append(", globalFontLoads=").append(this.globalFontLoads)
+                .toString();
+    }
+
+    /**
+     * 文档关闭阶段
+     */
+    public enum Phase {
+        // 正文排版，流式输出模式下只包含关闭时剩余的正文
+        BODY,
+        // 封面
+        COVER,
+        // 目录
+        CATALOG,
+        // 页面重新排序
+        REORDER,
+        // 写入交叉引用表等文件结尾
+        FINISH
+    }
+
+}
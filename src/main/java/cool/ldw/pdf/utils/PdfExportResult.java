@@ -0,0 +1,48 @@
+package cool.ldw.pdf.utils;
+
+import lombok.Getter;
+
+/**
+ * pdf 导出结果
+ *
+ * @author ldwcool
+ */
+@Getter
+public class PdfExportResult {
+
+    /**
+     * 任务名称
+     */
+    private final String name;
+
+    /**
+     * 失败原因，成功为 null
+     */
+    private final Throwable error;
+
+    /**
+     * 耗时（毫秒）
+     */
+    private final long elapsedMillis;
+
+    PdfExportResult(String name, Throwable error, long elapsedMillis) {
+        this.name = name;
+        this.error = error;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * 是否导出成功
+     *
+     * @return 是否成功
+     */
+    public boolean isSuccess() {
+        return this.error == null;
+    }
+
+    @Override
+    public String toString() {
+        return this.name + (this.isSuccess() ? " 成功" : " 失败：" + this.error) + "，耗时 " + this.elapsedMillis + " ms";
+    }
+
+}
@@ -1,24 +1,19 @@
 package cool.ldw.pdf.utils;
 
 import cn.hutool.core.convert.Convert;
-import cn.hutool.core.util.ArrayUtil;
 import cn.hutool.core.util.StrUtil;
-import com.itextpdf.text.BaseColor;
 import com.itextpdf.text.DocumentException;
-import com.itextpdf.text.Element;
 import com.itextpdf.text.Font;
+import com.itextpdf.text.Image;
 import com.itextpdf.text.Paragraph;
-import com.itextpdf.text.Phrase;
 import com.itextpdf.text.pdf.BaseFont;
 import com.itextpdf.text.pdf.PdfPCell;
 import com.itextpdf.text.pdf.PdfPTable;
 
-import java.io.IOException;
 import java.util.Arrays;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.regex.Pattern;
 
 /**
  * pdf 工具类
@@ -27,32 +22,45 @@ import java.util.Objects;
  */
 public class PdfExportUtil {
 
+    /**
+     * 单元格分组标记
+     */
+    private static final String LIST_TABLE_SPAN_GROUP_MARK = "#group: ";
+
+    /**
+     * 单元格分组标记正则
+     */
+    private static final Pattern LIST_TABLE_SPAN_GROUP_PATTERN = Pattern.compile("#group: .*?#");
+
     /**
      * 获取页眉字体样式
+     * 每次返回默认样式表字体的副本，修改不影响其他文档
      *
      * @return 页眉字体样式
      */
     public static Font getPageHeaderFont() {
-        return new Font(PdfExportUtil.getSimsunBaseFont(), 13f, Font.NORMAL);
+        return new Font(PdfStyleSheet.getDefault().getPageHeaderFont());
     }
 
     /**
      * 获取水印字体样式
+     * 每次返回默认样式表字体的副本，修改不影响其他文档
      *
      * @return 页眉字体样式
      */
     public static Font getPageWatermarkFont() {
-        return new Font(PdfExportUtil.getSimsunBaseFont(), 130, Font.NORMAL, new BaseColor(223, 223, 223, 120));
+        return new Font(PdfStyleSheet.getDefault().getPageWatermarkFont());
     }
 
     /**
      * 获取正文字体样式
      * 字体：宋体，字号：小四，段落：左对齐，首行缩进2个字符，行距：固定值23磅（pt）
+     * 每次返回默认样式表字体的副本，修改不影响其他文档
      *
      * @return 正文字体
      */
     public static Font getMainTextFont() {
-        return new Font(getSimsunBaseFont(), 12, Font.NORMAL);
+        return new Font(PdfStyleSheet.getDefault().getBodyFont());
     }
 
     /**
@@ -63,13 +71,51 @@ public class PdfExportUtil {
      * @return 正文段落
      */
     public static Paragraph getMainTextParagraph(String content) {
-        Paragraph paragraph = new Paragraph(content, getMainTextFont());
-        paragraph.setAlignment(Element.ALIGN_LEFT);
-        paragraph.setFirstLineIndent(24);
-        paragraph.setLeading(23);
-        paragraph.setSpacingAfter(11.5f);
-        paragraph.setSpacingBefore(11.5f);
-        return paragraph;
+        return PdfStyleSheet.getDefault().newBodyParagraph(content);
+    }
+
+    /**
+     * 获取图片，相同内容的图片只解码一次，同一文档中多次放置只写入一次
+     *
+     * @param bytes 图片内容
+     * @return 图片
+     */
+    public static Image getImage(byte[] bytes) {
+        return PdfImageCache.getDefault().getImage(bytes);
+    }
+
+    /**
+     * 获取图片，等比缩放到不超过指定的放置尺寸
+     *
+     * @param bytes     图片内容
+     * @param fitWidth  放置宽度（磅）
+     * @param fitHeight 放置高度（磅）
+     * @return 图片
+     */
+    public static Image getImage(byte[] bytes, float fitWidth, float fitHeight) {
+        return PdfImageCache.getDefault().getImage(bytes, fitWidth, fitHeight);
+    }
+
+    /**
+     * 获取图片，相同内容的图片只解码一次，同一文档中多次放置只写入一次
+     *
+     * @param path 图片路径，优先按文件系统查找，文件不存在时按 classpath 查找
+     * @return 图片
+     */
+    public static Image getImage(String path) {
+        return PdfImageCache.getDefault().getImage(path);
+    }
+
+    /**
+     * 获取图片，等比缩放到不超过指定的放置尺寸
+     *
+     * @param path      图片路径，优先按文件系统查找，文件不存在时按 classpath 查找
+     * @param fitWidth  放置宽度（磅）
+     * @param fitHeight 放置高度（磅）
+     * @return 图片
+     */
+    public static Image getImage(String path, float fitWidth, float fitHeight) {
+        return PdfImageCache.getDefault().getImage(path, fitWidth, fitHeight);
     }
 
     /**
@@ -109,7 +155,7 @@ public class PdfExportUtil {
      * @return 单元格
      */
     public static PdfPCell initPdfCell(String content) {
-        return initPdfCell(content, getMainTextFont());
+        return initPdfCell(content, PdfStyleSheet.getDefault().getBodyFont());
     }
 
     /**
@@ -120,17 +166,7 @@ public class PdfExportUtil {
      * @return 单元格
      */
     public static PdfPCell initPdfCell(String content, Font font) {
-        Phrase phrase = new Phrase(content, font);
-        PdfPCell cell = new PdfPCell(phrase);
-        cell.setUseAscender(true);
-        cell.setHorizontalAlignment(PdfPCell.LEFT);
-        cell.setVerticalAlignment(PdfPCell.ALIGN_MIDDLE);
-        cell.setMinimumHeight(22);
-        cell.setPaddingTop(10);
-        cell.setPaddingBottom(10);
-        cell.setPaddingLeft(5);
-        cell.setPaddingRight(5);
-        return cell;
+        return PdfStyleSheet.getDefault().newCell(content, font);
     }
 
     /**
@@ -141,8 +177,7 @@ public class PdfExportUtil {
      * @return 单元格
      */
     public static PdfPCell initPdfCellHeader(String content) {
-        Font font = new Font(getSimheiBaseFont(), 10, Font.NORMAL);
-        return initPdfCellHeader(content, font);
+        return initPdfCellHeader(content, PdfStyleSheet.getDefault().getHeaderCellFont());
     }
 
     /**
@@ -273,85 +308,106 @@ public class PdfExportUtil {
      * @param rowSpanColumn    需要行合并的列。为 null 则所有列都行需要合并
      */
     public static PdfPTable buildListTable(Map<String, String> header, List<Map<String, String>> content, boolean isShowHeader, float[] cellsWidthConfig, boolean isRowSpan, String[] rowSpanColumn) {
-        PdfPTable table = new PdfPTable(cellsWidthConfig.length + 1);
-        table.setWidthPercentage(100);
+        return PdfListTableSpec.of(header, isShowHeader, cellsWidthConfig, isRowSpan, rowSpanColumn).build(content);
+    }
 
-        // 计算序号列宽度占比
-        float[] indexCellWidth = new float[1];
-        float totalCellWidth = 0;
-        for (float item : cellsWidthConfig) {
-            totalCellWidth += item;
-        }
-        indexCellWidth[0] = (float) (totalCellWidth * 0.08);
-        try {
-            table.setWidths(ArrayUtil.addAll(indexCellWidth, cellsWidthConfig));
-        } catch (DocumentException e) {
-            throw new RuntimeException(e);
+    /**
+     * 创建 list 类型表格
+     *
+     * @param content 列式表格内容
+     * @return 表格
+     */
+    public static PdfPTable buildListTable(PdfColumnarTable content) {
+        float[] cellsWidthConfig = new float[content.getColumns().size()];
+        Arrays.fill(cellsWidthConfig, 1);
+        return buildListTable(content, true, cellsWidthConfig, false, null);
+    }
+
+    /**
+     * 创建 list 类型表格
+     *
+     * @param content          列式表格内容
+     * @param cellsWidthConfig 单元格宽度配置
+     * @return 表格
+     */
+    public static PdfPTable buildListTable(PdfColumnarTable content, float[] cellsWidthConfig) {
+        return buildListTable(content, true, cellsWidthConfig, false, null);
+    }
+
+    /**
+     * 创建 list 类型表格
+     * 自定义序号值（如子明细序号）通过 {@link PdfColumnarTable#setIndexes(String[])} 设置
+     *
+     * @param content          列式表格内容
+     * @param isShowHeader     是否显示表格头
+     * @param cellsWidthConfig 单元格宽度配置
+     * @param isRowSpan        是否需要行合并。上下相邻单元内容一致将会合并
+     * @param rowSpanColumn    需要行合并的列（字段名）。为 null 则所有列都行需要合并
+     * @return 表格
+     */
+    public static PdfPTable buildListTable(PdfColumnarTable content, boolean isShowHeader, float[] cellsWidthConfig, boolean isRowSpan, String[] rowSpanColumn) {
+        List<PdfColumnarTable.Column> columns = content.getColumns();
+        String[] headerNames = new String[columns.size() + 1];
+        String[] columnKeys = new String[columns.size() + 1];
+        headerNames[0] = "序号";
+        columnKeys[0] = PdfMapTableRows.INDEX_KEY;
+        for (int i = 0; i < columns.size(); i++) {
+            headerNames[i + 1] = columns.get(i).getHeader();
+            columnKeys[i + 1] = columns.get(i).getKey();
         }
+        return new PdfListTableSpec(isShowHeader ? headerNames : null, columnKeys, cellsWidthConfig, isRowSpan, rowSpanColumn)
+                .build(content.toRows(), PdfStyleSheet.getDefault());
+    }
+
+    /**
+     * 创建实体类 list 类型表格
+     *
+     * @param content 表格内容，每一行为一个实体类
+     * @param columns 列定义
+     * @return 表格
+     */
+    public static PdfPTable buildListTable(List<?> content, PdfBeanColumns columns) {
+        float[] cellsWidthConfig = new float[columns.getColumns().size()];
+        Arrays.fill(cellsWidthConfig, 1);
+        return buildListTable(content, columns, true, cellsWidthConfig, false, null);
+    }
 
-        // 单元格内容字段名
-        List<String> contentKey = new LinkedList<>();
-        contentKey.add("index");
-
-        // 单元格内容字体 宋体 10号 不加粗
-        Font contentFont = new Font(getSimsunBaseFont(), 10, Font.NORMAL);
-
-        // 添加表格头
-        if (isShowHeader) {
-            table.addCell(initPdfCellHeader("序号"));
-            for (Map.Entry<String, String> entry : header.entrySet()) {
-                PdfPCell cell = initPdfCellHeader(entry.getKey());
-                contentKey.add(entry.getValue());
-                table.addCell(cell);
-            }
-        } else {
-            contentKey.addAll(header.values());
-        }// 添加表格内容
-        for (int i = 0; i < content.size(); i++) {
-            Map<String, String> row = content.get(i);
-            if (!row.containsKey("index")) {
-                // 设置序号值
-                row.put("index", i + 1 + "");
-            }
-            for (String key : contentKey) {
-                // 当前列是否需要行合并
-                boolean isCurrentColumnRowSpan = isRowSpan && (ArrayUtil.isEmpty(rowSpanColumn) || ArrayUtil.contains(rowSpanColumn, key));
-                if (isCurrentColumnRowSpan) {
-                    // 需要行合并单元格
-
-                    // 当前单元格为第一行 && 表格还有下一行数据 && 当前单元格内容和下一行对应单元格内容一样时 需要合并行单元格
-                    boolean isFirstRowSpan = i == 0 && i < content.size() - 1 && Objects.equals(row.get(key), content.get(i + 1).get(key));
-                    // 当前单元格不为第一行 && 当前单元格不为最后一行 && 上一行对应单元格内容和当前单元格内容不一样 && 当前单元格内容和下一行对应单元格内容一样时 需要合并行单元格
-                    boolean isOtherRowSpan = i > 0 && i < content.size() - 1
-                            && (!Objects.equals(content.get(i - 1).get(key), row.get(key)) && Objects.equals(row.get(key), content.get(i + 1).get(key)));
-
-                    if (isFirstRowSpan || isOtherRowSpan) {
-                        // 计算单元格序号合并的行数
-                        int rowSpanNum = 1;
-                        for (int j = i + 1; j < content.size(); j++) {
-                            if (Objects.equals(row.get(key), content.get(j).get(key))) {
-                                rowSpanNum++;
-                            } else {
-                                break;
-                            }
-                        }
-                        // 单元格内容
-                        PdfPCell cell = initPdfCell(removeListTableSpanGroup(row.get(key)), contentFont);
-                        cell.setRowspan(rowSpanNum);
-                        table.addCell(cell);
-                    } else if (i == 0 || !Objects.equals(content.get(i - 1).get(key), row.get(key))) {
-                        // 直接设置单元格内容
-                        PdfPCell cell = initPdfCell(removeListTableSpanGroup(row.get(key)), contentFont);
-                        table.addCell(cell);
-                    }
-                } else {
-                    // 无需行合并单元格，直接设置单元格内容
-                    PdfPCell cell = initPdfCell(removeListTableSpanGroup(row.get(key)), contentFont);
-                    table.addCell(cell);
-                }
-            }
+    /**
+     * 创建实体类 list 类型表格
+     *
+     * @param content          表格内容，每一行为一个实体类
+     * @param columns          列定义
+     * @param cellsWidthConfig 单元格宽度配置
+     * @return 表格
+     */
+    public static PdfPTable buildListTable(List<?> content, PdfBeanColumns columns, float[] cellsWidthConfig) {
+        return buildListTable(content, columns, true, cellsWidthConfig, false, null);
+    }
+
+    /**
+     * 创建实体类 list 类型表格
+     * 属性值直接从实体类读取，不需要转换为 Map
+     *
+     * @param content          表格内容，每一行为一个实体类
+     * @param columns          列定义
+     * @param isShowHeader     是否显示表格头
+     * @param cellsWidthConfig 单元格宽度配置
+     * @param isRowSpan        是否需要行合并。上下相邻单元内容一致将会合并
+     * @param rowSpanColumn    需要行合并的列（属性名）。为 null 则所有列都行需要合并
+     * @return 表格
+     */
+    public static PdfPTable buildListTable(List<?> content, PdfBeanColumns columns, boolean isShowHeader, float[] cellsWidthConfig, boolean isRowSpan, String[] rowSpanColumn) {
+        List<PdfBeanColumns.Column> columnList = columns.getColumns();
+        String[] headerNames = new String[columnList.size() + 1];
+        String[] columnKeys = new String[columnList.size() + 1];
+        headerNames[0] = "序号";
+        columnKeys[0] = PdfMapTableRows.INDEX_KEY;
+        for (int i = 0; i < columnList.size(); i++) {
+            headerNames[i + 1] = columnList.get(i).getHeader();
+            columnKeys[i + 1] = columnList.get(i).getProperty();
         }
-        return table;
+        return new PdfListTableSpec(isShowHeader ? headerNames : null, columnKeys, cellsWidthConfig, isRowSpan, rowSpanColumn)
+                .build(columns.toRows(content), PdfStyleSheet.getDefault());
     }
 
     /**
@@ -360,7 +416,9 @@ public class PdfExportUtil {
      * @param cellContent 单元格内容
      * @param group       标记内容
      * @return 处理后占位值
+     * @deprecated 分组标记会写入单元格内容，请使用 {@link PdfListTableRow} 设置分组
      */
+    @Deprecated
     public static String addListTableSpanGroup(String cellContent, Object group) {
         return String.format("%s#group: %s#", cellContent, group);
     }
@@ -375,7 +433,11 @@ public class PdfExportUtil {
         if (StrUtil.isBlank(cellContent)) {
             return "";
         }
-        return cellContent.replaceFirst("#group: .*?#", "");
+        // 没有分组标记时不需要正则替换
+        if (!cellContent.contains(LIST_TABLE_SPAN_GROUP_MARK)) {
+            return cellContent;
+        }
+        return LIST_TABLE_SPAN_GROUP_PATTERN.matcher(cellContent).replaceFirst("");
     }
 
     /**
@@ -383,15 +445,12 @@ public class PdfExportUtil {
      * 如果创建BaseFont对象时，使用 IDENTITY_H or IDENTITY_V 编码类型，那么Itext会忽略 BaseFont.NOT_EMBEDDED参数并且总是使用该字体的子集（只会嵌入用到的字体）。
      * BaseFont.NOT_EMBEDDED 字体不会嵌入到PDF文件中（没有保存），可能会导致不同电脑显示不正确。
      * BaseFont.EMBEDDED 使用的字体会嵌入（保存）到PDF文件中，这样文件会更大一些，这样PDF文件显示就是跨平台的。
+     * 字体由 {@link PdfFontRegistry} 加载一次后共享。
      *
      * @return 宋体
      */
     public static BaseFont getSimsunBaseFont() {
-        try {
-            return BaseFont.createFont("fonts/simsun.ttf", BaseFont.IDENTITY_H, BaseFont.NOT_EMBEDDED);
-        } catch (DocumentException | IOException e) {
-            throw new RuntimeException(e);
-        }
+        return PdfFontRegistry.getFont(PdfFontRegistry.SIMSUN);
     }
 
     /**
@@ -400,11 +459,7 @@ public class PdfExportUtil {
      * @return 黑体
      */
     public static BaseFont getSimheiBaseFont() {
-        try {
-            return BaseFont.createFont("fonts/simhei.ttf", BaseFont.IDENTITY_H, BaseFont.NOT_EMBEDDED);
-        } catch (DocumentException | IOException e) {
-            throw new RuntimeException(e);
-        }
+        return PdfFontRegistry.getFont(PdfFontRegistry.SIMHEI);
     }
 
     /**
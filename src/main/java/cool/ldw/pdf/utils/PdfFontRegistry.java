@@ -0,0 +1,250 @@
+package cool.ldw.pdf.utils;
+
+import cn.hutool.core.io.resource.ResourceUtil;
+import cn.hutool.core.util.StrUtil;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.pdf.BaseFont;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * pdf 字体注册表
+ * 进程内共享，每个注册的字体只会在第一次使用时加载一次，之后直接复用同一个 BaseFont 实例。线程安全。
+ * 字体文件路径优先按文件系统查找，文件不存在时按 classpath 查找，也可以使用 classpath: 前缀直接指定 classpath 中的字体。
+ * IDENTITY_H 编码的 TrueType 字体由 iText 按文档嵌入用到的字形（子集）。字体文件只读取一次：
+ * 文件系统中的字体由 iText 内存映射读取，classpath 中的字体读入内存后在所有文档之间共享。
+ *
+ * @author ldwcool
+ */
+public class PdfFontRegistry {
+
+    /**
+     * 宋体
+     */
+    public static final String SIMSUN = "simsun";
+
+    /**
+     * 黑体
+     */
+    public static final String SIMHEI = "simhei";
+
+    /**
+     * classpath 字体路径前缀
+     */
+    public static final String CLASSPATH_PREFIX = "classpath:";
+
+    /**
+     * 字体定义 键：字体名称   值：字体定义
+     */
+    private static final ConcurrentMap<String, FontDefinition> FONT_DEFINITIONS = new ConcurrentHashMap<>();
+
+    /**
+     * 已加载的字体 键：字体名称   值：字体
+     */
+    private static final ConcurrentMap<String, BaseFont> LOADED_FONTS = new ConcurrentHashMap<>();
+
+    /**
+     * classpath 字体文件内容 键：classpath 路径   值：字体文件内容
+     */
+    private static final ConcurrentMap<String, byte[]> FONT_BYTES = new ConcurrentHashMap<>();
+
+    /**
+     * 命中次数
+     */
+    private static final AtomicLong HIT_COUNT = new AtomicLong();
+
+    /**
+     * 未命中（实际加载字体）次数
+     */
+    private static final AtomicLong MISS_COUNT = new AtomicLong();
+
+    static {
+        register(SIMSUN, "fonts/simsun.ttf");
+        register(SIMHEI, "fonts/simhei.ttf");
+    }
+
+    private PdfFontRegistry() {
+    }
+
+    /**
+     * 注册字体，编码 IDENTITY_H，不嵌入
+     *
+     * @param name 字体名称
+     * @param path 字体文件路径
+     */
+    public static void register(String name, String path) {
+        register(name, path, BaseFont.IDENTITY_H, BaseFont.NOT_EMBEDDED);
+    }
+
+    /**
+     * 注册字体
+     * 重复注册同名字体会覆盖之前的定义，已加载的字体会在下次使用时重新加载
+     *
+     * @param name     字体名称
+     * @param path     字体文件路径
+     * @param encoding 字体编码
+     * @param embedded 是否嵌入字体
+     */
+    public static synchronized void register(String name, String path, String encoding, boolean embedded) {
+        FONT_DEFINITIONS.put(name, new FontDefinition(path, encoding, embedded));
+        LOADED_FONTS.remove(name);
+    }
+
+    /**
+     * 注册已创建好的字体
+     *
+     * @param name     字体名称
+     * @param baseFont 字体
+     */
+    public static synchronized void register(String name, BaseFont baseFont) {
+        FONT_DEFINITIONS.remove(name);
+        LOADED_FONTS.put(name, baseFont);
+    }
+
+    /**
+     * 获取字体，第一次获取时加载
+     *
+     * @param name 字体名称
+     * @return 字体
+     */
+    public static BaseFont getFont(String name) {
+        BaseFont baseFont = LOADED_FONTS.get(name);
+        if (baseFont != null) {
+            HIT_COUNT.incrementAndGet();
+            return baseFont;
+        }
+        return loadFont(name);
+    }
+
+    /**
+     * 预加载字体，可以在应用启动时调用
+     *
+     * @param names 字体名称。为空则加载所有已注册的字体
+     */
+    public static void warmUp(String... names) {
+        Collection<String> fontNames = names == null || names.length == 0
+                ? new ArrayList<>(FONT_DEFINITIONS.keySet()) : Arrays.asList(names);
+        for (String name : fontNames) {
+            if (!LOADED_FONTS.containsKey(name)) {
+                loadFont(name);
+            }
+        }
+    }
+
+    /**
+     * 获取命中次数
+     *
+     * @return 命中次数
+     */
+    public static long getHitCount() {
+        return HIT_COUNT.get();
+    }
+
+    /**
+     * 获取未命中（实际加载字体）次数
+     *
+     * @return 未命中次数
+     */
+    public static long getMissCount() {
+        return MISS_COUNT.get();
+    }
+
+    /**
+     * 重置命中统计
+     */
+    public static void resetStatistics() {
+        HIT_COUNT.set(0);
+        MISS_COUNT.set(0);
+    }
+
+    /**
+     * 加载字体
+     * 同一时刻只有一个线程加载，避免同一字体被重复加载
+     *
+     * @param name 字体名称
+     * @return 字体
+     */
+    private static synchronized BaseFont loadFont(String name) {
+        BaseFont baseFont = LOADED_FONTS.get(name);
+        if (baseFont != null) {
+            HIT_COUNT.incrementAndGet();
+            return baseFont;
+        }
+
+        FontDefinition definition = FONT_DEFINITIONS.get(name);
+        if (definition == null) {
+            throw new IllegalArgumentException("未注册的字体：" + name);
+        }
+        try {
+            baseFont = createFont(definition);
+        } catch (DocumentException | IOException e) {
+            throw new RuntimeException(e);
+        }
+        MISS_COUNT.incrementAndGet();
+        LOADED_FONTS.put(name, baseFont);
+        return baseFont;
+    }
+
+    /**
+     * 创建字体
+     *
+     * @param definition 字体定义
+     * @return 字体
+     * @throws DocumentException -
+     * @throws IOException       -
+     */
+    private static BaseFont createFont(FontDefinition definition) throws DocumentException, IOException {
+        // TTC 字体路径后面带有字体序号，如 simsun.ttc,0
+        String path = StrUtil.removePrefix(definition.path, CLASSPATH_PREFIX);
+        String file = path.toLowerCase().contains(".ttc,") ? path.substring(0, path.toLowerCase().indexOf(".ttc,") + 4) : path;
+        if (!definition.path.startsWith(CLASSPATH_PREFIX) && new File(file).isFile()) {
+            // 文件系统中的字体由 iText 内存映射读取
+            return BaseFont.createFont(path, definition.encoding, definition.embedded);
+        }
+        if (ResourceUtil.getResource(file) == null) {
+            // 交给 iText 查找（如 itext-asian 中的字体）
+            return BaseFont.createFont(path, definition.encoding, definition.embedded);
+        }
+        byte[] bytes = FONT_BYTES.get(file);
+        if (bytes == null) {
+            bytes = ResourceUtil.readBytes(file);
+            FONT_BYTES.put(file, bytes);
+        }
+        return BaseFont.createFont(path, definition.encoding, definition.embedded, false, bytes, null);
+    }
+
+    /**
+     * 字体定义
+     */
+    private static final class FontDefinition {
+
+        /**
+         * 字体文件路径
+         */
+        private final String path;
+
+        /**
+         * 字体编码
+         */
+        private final String encoding;
+
+        /**
+         * 是否嵌入字体
+         */
+        private final boolean embedded;
+
+        private FontDefinition(String path, String encoding, boolean embedded) {
+            this.path = path;
+            this.encoding = encoding;
+            this.embedded = embedded;
+        }
+    }
+
+}
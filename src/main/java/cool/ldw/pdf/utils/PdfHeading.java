@@ -0,0 +1,70 @@
+package cool.ldw.pdf.utils;
+
+import lombok.Getter;
+
+/**
+ * pdf 标题
+ *
+ * @author ldwcool
+ */
+@Getter
+public class PdfHeading {
+
+    /**
+     * 标题 id，按添加顺序从 0 开始
+     */
+    private final int id;
+
+    /**
+     * 标题层级，从 1 开始
+     */
+    private final int level;
+
+    /**
+     * 标题内容，不包含序号
+     */
+    private final String title;
+
+    /**
+     * 跳转目标名称
+     */
+    private final String destination;
+
+    /**
+     * 带序号的标题内容，如：1.1 标题，排版后才有值
+     */
+    private String numberedTitle;
+
+    /**
+     * 所在正文页码，排版后才有值，未排版为 0
+     */
+    private int page;
+
+    PdfHeading(int id, int level, String title) {
+        this.id = id;
+        this.level = level;
+        this.title = title;
+        this.destination = PdfHeadingIndex.DESTINATION_PREFIX + id;
+    }
+
+    /**
+     * 记录排版结果
+     *
+     * @param numberedTitle 带序号的标题内容
+     * @param page          所在正文页码
+     */
+    void laidOut(String numberedTitle, int page) {
+        this.numberedTitle = numberedTitle;
+        this.page = page;
+    }
+
+    /**
+     * 是否已排版
+     *
+     * @return 是否已排版
+     */
+    public boolean isLaidOut() {
+        return this.page > 0;
+    }
+
+}
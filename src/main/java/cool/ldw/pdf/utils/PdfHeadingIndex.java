@@ -0,0 +1,96 @@
+package cool.ldw.pdf.utils;
+
+import com.itextpdf.text.Chunk;
+import com.itextpdf.text.Paragraph;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * pdf 标题索引
+ * 每个标题有唯一的数字 id、层级和所在页码，跳转目标名称为 h + id，标题内容相同也不会冲突。
+ * 标题排版时通过标题中的跳转目标直接定位到索引，不需要解析标题内容。
+ *
+ * @author ldwcool
+ */
+public class PdfHeadingIndex {
+
+    /**
+     * 跳转目标名称前缀
+     */
+    static final String DESTINATION_PREFIX = "h";
+
+    /**
+     * 标题，下标为标题 id
+     */
+    private final List<PdfHeading> headings = new ArrayList<>();
+
+    /**
+     * 添加标题，并把标题的跳转目标设置到标题内容上
+     *
+     * @param level 标题层级
+     * @param chunk 标题内容
+     * @return 标题
+     */
+    PdfHeading add(int level, Chunk chunk) {
+        PdfHeading heading = new PdfHeading(this.headings.size(), level, chunk.getContent());
+        chunk.setLocalDestination(heading.getDestination());
+        this.headings.add(heading);
+        return heading;
+    }
+
+    /**
+     * 查找排版中的标题
+     *
+     * @param title 排版中的标题段落
+     * @return 标题，不是通过索引添加的标题返回 null
+     */
+    PdfHeading find(Paragraph title) {
+        for (Chunk chunk : title.getChunks()) {
+            Object destination = chunk.hasAttributes() ? chunk.getAttributes().get(Chunk.LOCALDESTINATION) : null;
+            if (destination instanceof String) {
+                return this.get((String) destination);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 根据跳转目标名称获取标题
+     *
+     * @param destination 跳转目标名称
+     * @return 标题，不存在返回 null
+     */
+    private PdfHeading get(String destination) {
+        if (!destination.startsWith(DESTINATION_PREFIX)) {
+            return null;
+        }
+        int id;
+        try {
+            id = Integer.parseInt(destination.substring(DESTINATION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return id >= 0 && id < this.headings.size() ? this.headings.get(id) : null;
+    }
+
+    /**
+     * 获取所有标题，按添加顺序
+     *
+     * @return 标题
+     */
+    public List<PdfHeading> getHeadings() {
+        return Collections.unmodifiableList(this.headings);
+    }
+
+    /**
+     * 获取标题数量
+     *
+     * @return 标题数量
+     */
+    public int size() {
+        return this.headings.size();
+    }
+
+}
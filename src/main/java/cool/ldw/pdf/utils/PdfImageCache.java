@@ -0,0 +1,295 @@
+package cool.ldw.pdf.utils;
+
+import cn.hutool.cache.CacheUtil;
+import cn.hutool.cache.impl.LRUCache;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.resource.ResourceUtil;
+import cn.hutool.crypto.digest.DigestUtil;
+import com.itextpdf.text.BadElementException;
+import com.itextpdf.text.Image;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * pdf 图片缓存
+ * 按图片内容的 SHA-256 缓存解码后的图片，相同内容的图片只解码一次，缓存满时淘汰最久未使用的图片。线程安全。
+ * 每次获取都返回缓存图片的副本，副本之间共享图片数据和标识，同一个文档中无论放置多少次都只写入一个 XObject；
+ * 副本可以单独设置大小、位置，不影响缓存中的图片。
+ * 设置目标 DPI 后，按放置尺寸计算超出目标 DPI 的图片会先缩小，不透明的图片同时重新压缩为 JPEG。
+ *
+ * @author ldwcool
+ */
+public class PdfImageCache {
+
+    /**
+     * classpath 图片路径前缀
+     */
+    public static final String CLASSPATH_PREFIX = "classpath:";
+
+    /**
+     * 默认图片缓存，最多 64 张，不缩小图片
+     */
+    private static final PdfImageCache DEFAULT_CACHE = new PdfImageCache(64);
+
+    /**
+     * 缓存 键：图片内容摘要及处理参数   值：图片
+     */
+    private final LRUCache<String, Image> cache;
+
+    /**
+     * 目标 DPI，0 表示不缩小图片
+     */
+    private final int targetDpi;
+
+    /**
+     * JPEG 压缩质量 0~1
+     */
+    private final float jpegQuality;
+
+    /**
+     * 命中次数
+     */
+    private final AtomicLong hitCount = new AtomicLong();
+
+    /**
+     * 未命中（实际解码图片）次数
+     */
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * 创建图片缓存，不缩小图片
+     *
+     * @param capacity 最多缓存的图片数量
+     */
+    public PdfImageCache(int capacity) {
+        this(capacity, 0, 0.85f);
+    }
+
+    /**
+     * 创建图片缓存
+     *
+     * @param capacity    最多缓存的图片数量
+     * @param targetDpi   目标 DPI，如 150。0 表示不缩小图片
+     * @param jpegQuality 重新压缩为 JPEG 时的质量 0~1
+     */
+    public PdfImageCache(int capacity, int targetDpi, float jpegQuality) {
+        this.cache = CacheUtil.newLRUCache(capacity);
+        this.targetDpi = Math.max(targetDpi, 0);
+        this.jpegQuality = jpegQuality;
+    }
+
+    /**
+     * 获取默认图片缓存
+     *
+     * @return 默认图片缓存
+     */
+    public static PdfImageCache getDefault() {
+        return DEFAULT_CACHE;
+    }
+
+    /**
+     * 获取图片，按原始大小放置
+     *
+     * @param bytes 图片内容，支持 JPEG、PNG、GIF、BMP 等 iText 支持的格式
+     * @return 图片副本
+     */
+    public Image getImage(byte[] bytes) {
+        return copy(this.getMaster(bytes, 0, 0));
+    }
+
+    /**
+     * 获取图片，等比缩放到不超过指定的放置尺寸
+     * 设置了目标 DPI 时，超出目标 DPI 的图片会先缩小
+     *
+     * @param bytes     图片内容
+     * @param fitWidth  放置宽度（磅）
+     * @param fitHeight 放置高度（磅）
+     * @return 图片副本
+     */
+    public Image getImage(byte[] bytes, float fitWidth, float fitHeight) {
+        Image image = copy(this.getMaster(bytes, fitWidth, fitHeight));
+        image.scaleToFit(fitWidth, fitHeight);
+        return image;
+    }
+
+    /**
+     * 获取图片，按原始大小放置
+     *
+     * @param path 图片路径，优先按文件系统查找，文件不存在时按 classpath 查找，也可以使用 classpath: 前缀
+     * @return 图片副本
+     */
+    public Image getImage(String path) {
+        return this.getImage(readBytes(path));
+    }
+
+    /**
+     * 获取图片，等比缩放到不超过指定的放置尺寸
+     *
+     * @param path      图片路径，优先按文件系统查找，文件不存在时按 classpath 查找，也可以使用 classpath: 前缀
+     * @param fitWidth  放置宽度（磅）
+     * @param fitHeight 放置高度（磅）
+     * @return 图片副本
+     */
+    public Image getImage(String path, float fitWidth, float fitHeight) {
+        return this.getImage(readBytes(path), fitWidth, fitHeight);
+    }
+
+    /**
+     * 获取缓存的图片数量
+     *
+     * @return 图片数量
+     */
+    public int size() {
+        return this.cache.size();
+    }
+
+    /**
+     * 清空缓存
+     */
+    public void clear() {
+        this.cache.clear();
+    }
+
+    /**
+     * 获取命中次数
+     *
+     * @return 命中次数
+     */
+    public long getHitCount() {
+        return this.hitCount.get();
+    }
+
+    /**
+     * 获取未命中（实际解码图片）次数
+     *
+     * @return 未命中次数
+     */
+    public long getMissCount() {
+        return this.missCount.get();
+    }
+
+    /**
+     * 获取缓存的图片，不存在时解码
+     *
+     * @param bytes     图片内容
+     * @param fitWidth  放置宽度（磅），0 表示按原始大小放置
+     * @param fitHeight 放置高度（磅），0 表示按原始大小放置
+     * @return 缓存的图片
+     */
+    private Image getMaster(byte[] bytes, float fitWidth, float fitHeight) {
+        boolean resample = this.targetDpi > 0 && fitWidth > 0 && fitHeight > 0;
+        String key = DigestUtil.sha256Hex(bytes);
+        if (resample) {
+            // 缩小后的图片与放置尺寸有关
+            key += "@" + fitWidth + "x" + fitHeight;
+        }
+        Image image = this.cache.get(key);
+        if (image != null) {
+            this.hitCount.incrementAndGet();
+            return image;
+        }
+        // 同一图片可能被多个线程同时解码，结果相同，不影响使用
+        this.missCount.incrementAndGet();
+        try {
+            image = Image.getInstance(resample ? this.resample(bytes, fitWidth, fitHeight) : bytes);
+        } catch (BadElementException | IOException e) {
+            throw new RuntimeException(e);
+        }
+        this.cache.put(key, image);
+        return image;
+    }
+
+    /**
+     * 按目标 DPI 缩小图片，不透明的图片重新压缩为 JPEG，透明图片保持 PNG
+     * 没有超出目标 DPI 或 ImageIO 无法解码时返回原始内容
+     *
+     * @param bytes     图片内容
+     * @param fitWidth  放置宽度（磅）
+     * @param fitHeight 放置高度（磅）
+     * @return 处理后的图片内容
+     * @throws IOException -
+     */
+    private byte[] resample(byte[] bytes, float fitWidth, float fitHeight) throws IOException {
+        BufferedImage source;
+        try {
+            source = ImageIO.read(new ByteArrayInputStream(bytes));
+        } catch (IOException e) {
+            // ImageIO 不支持的格式（如 CMYK、YCCK 的 JPEG），交给 iText 按原始内容嵌入
+            return bytes;
+        }
+        if (source == null) {
+            return bytes;
+        }
+        // 等比缩放到放置尺寸后，按目标 DPI 需要的像素数
+        float scale = Math.min(fitWidth / source.getWidth(), fitHeight / source.getHeight());
+        int width = Math.round(source.getWidth() * scale / 72 * this.targetDpi);
+        int height = Math.round(source.getHeight() * scale / 72 * this.targetDpi);
+        if (width >= source.getWidth() || width <= 0 || height <= 0) {
+            return bytes;
+        }
+
+        boolean opaque = !source.getColorModel().hasAlpha();
+        BufferedImage target = new BufferedImage(width, height, opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        if (!opaque) {
+            ImageIO.write(target, "png", os);
+            return os.toByteArray();
+        }
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(os)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(this.jpegQuality);
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(target, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return os.toByteArray();
+    }
+
+    /**
+     * 复制图片，副本与原图共享图片数据和标识
+     *
+     * @param master 缓存的图片
+     * @return 图片副本
+     */
+    private static Image copy(Image master) {
+        return Image.getInstance(master);
+    }
+
+    /**
+     * 读取图片内容
+     *
+     * @param path 图片路径
+     * @return 图片内容
+     */
+    private static byte[] readBytes(String path) {
+        if (!path.startsWith(CLASSPATH_PREFIX) && new File(path).isFile()) {
+            return FileUtil.readBytes(path);
+        }
+        return ResourceUtil.readBytes(path.startsWith(CLASSPATH_PREFIX) ? path.substring(CLASSPATH_PREFIX.length()) : path);
+    }
+
+}
@@ -0,0 +1,40 @@
+package cool.ldw.pdf.utils;
+
+import com.itextpdf.text.Chapter;
+import com.itextpdf.text.ElementListener;
+import com.itextpdf.text.Paragraph;
+
+/**
+ * 延迟生成内容的一级标题
+ * 排版时才调用内容提供者，生成的内容位于标题之后、其它已添加内容之前
+ *
+ * @author ldwcool
+ */
+class PdfLazyChapter extends Chapter {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 内容提供者，调用后置空
+     */
+    private transient PdfContentSupplier supplier;
+
+    /**
+     * 所属文档
+     */
+    private final transient PdfExportDocument document;
+
+    PdfLazyChapter(Paragraph title, int number, PdfContentSupplier supplier, PdfExportDocument document) {
+        super(title, number);
+        this.supplier = supplier;
+        this.document = document;
+    }
+
+    @Override
+    public boolean process(ElementListener listener) {
+        PdfContentSupplier contentSupplier = this.supplier;
+        this.supplier = null;
+        return PdfLazySection.processSupplier(contentSupplier, listener, this.document) && super.process(listener);
+    }
+
+}
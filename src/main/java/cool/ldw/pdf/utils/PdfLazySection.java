@@ -0,0 +1,71 @@
+package cool.ldw.pdf.utils;
+
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.Element;
+import com.itextpdf.text.ElementListener;
+import com.itextpdf.text.Paragraph;
+import com.itextpdf.text.Section;
+
+import java.util.List;
+
+/**
+ * 延迟生成内容的二级、三级标题
+ * 排版时才调用内容提供者，生成的内容位于标题之后、其它已添加内容之前
+ *
+ * @author ldwcool
+ */
+class PdfLazySection extends Section {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 内容提供者，调用后置空
+     */
+    private transient PdfContentSupplier supplier;
+
+    /**
+     * 所属文档
+     */
+    private final transient PdfExportDocument document;
+
+    PdfLazySection(Paragraph title, int numberDepth, PdfContentSupplier supplier, PdfExportDocument document) {
+        super(title, numberDepth);
+        this.supplier = supplier;
+        this.document = document;
+    }
+
+    @Override
+    public boolean process(ElementListener listener) {
+        PdfContentSupplier contentSupplier = this.supplier;
+        this.supplier = null;
+        return processSupplier(contentSupplier, listener, this.document) && super.process(listener);
+    }
+
+    /**
+     * 调用内容提供者并逐个排版生成的内容，方法返回后生成的内容即可被回收
+     *
+     * @param supplier 内容提供者
+     * @param listener 排版监听
+     * @param document 所属文档
+     * @return 是否排版成功
+     */
+    static boolean processSupplier(PdfContentSupplier supplier, ElementListener listener, PdfExportDocument document) {
+        if (supplier == null) {
+            return true;
+        }
+        List<? extends Element> elements = supplier.get();
+        if (elements == null) {
+            return true;
+        }
+        try {
+            for (Element element : elements) {
+                document.recordElement(element);
+                listener.add(element);
+            }
+            return true;
+        } catch (DocumentException e) {
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,88 @@
+package cool.ldw.pdf.utils;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * list 类型表格的一行 键：字段名   值：字段内容
+ * 可以为整行或单个单元格设置行合并分组，一组内的单元格独立合并不与其他组合并（即便数据是一样的）。
+ * 分组直接比较，不会修改单元格内容。
+ *
+ * @author ldwcool
+ */
+public class PdfListTableRow extends LinkedHashMap<String, String> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 整行的行合并分组
+     */
+    private Object spanGroup;
+
+    /**
+     * 单元格的行合并分组 键：字段名   值：分组
+     */
+    private Map<String, Object> cellSpanGroupMap;
+
+    public PdfListTableRow() {
+    }
+
+    /**
+     * 创建表格行
+     *
+     * @param spanGroup 整行的行合并分组
+     */
+    public PdfListTableRow(Object spanGroup) {
+        this.spanGroup = spanGroup;
+    }
+
+    /**
+     * 设置整行的行合并分组
+     *
+     * @param spanGroup 分组
+     * @return this
+     */
+    public PdfListTableRow setSpanGroup(Object spanGroup) {
+        this.spanGroup = spanGroup;
+        return this;
+    }
+
+    /**
+     * 设置单元格的行合并分组，优先于整行的分组
+     *
+     * @param key       字段名
+     * @param spanGroup 分组
+     * @return this
+     */
+    public PdfListTableRow setCellSpanGroup(String key, Object spanGroup) {
+        if (this.cellSpanGroupMap == null) {
+            this.cellSpanGroupMap = new HashMap<>(4);
+        }
+        this.cellSpanGroupMap.put(key, spanGroup);
+        return this;
+    }
+
+    /**
+     * 获取单元格的行合并分组，没有设置单元格分组时返回整行的分组
+     *
+     * @param key 字段名
+     * @return 分组
+     */
+    public Object getSpanGroup(String key) {
+        if (this.cellSpanGroupMap != null && this.cellSpanGroupMap.containsKey(key)) {
+            return this.cellSpanGroupMap.get(key);
+        }
+        return this.spanGroup;
+    }
+
+    /**
+     * 获取整行的行合并分组
+     *
+     * @return 分组
+     */
+    public Object getSpanGroup() {
+        return this.spanGroup;
+    }
+
+}
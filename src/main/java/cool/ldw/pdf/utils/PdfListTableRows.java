@@ -0,0 +1,87 @@
+package cool.ldw.pdf.utils;
+
+import com.itextpdf.text.Font;
+import com.itextpdf.text.Phrase;
+
+import java.util.Objects;
+
+/**
+ * list 类型表格数据
+ * 第 0 列为序号列，之后的列与表格头顺序一致
+ *
+ * @author ldwcool
+ */
+abstract class PdfListTableRows {
+
+    /**
+     * 获取行数
+     *
+     * @return 行数
+     */
+    abstract int size();
+
+    /**
+     * 获取单元格的合并比较值，上下相邻单元格比较值相同时才会行合并
+     *
+     * @param row    行号
+     * @param column 列号
+     * @return 比较值
+     */
+    abstract Object getSpanKey(int row, int column);
+
+    /**
+     * 获取单元格的行合并分组，分组不同的单元格即便内容一致也不会合并
+     *
+     * @param row    行号
+     * @param column 列号
+     * @return 分组，没有分组返回 null
+     */
+    Object getSpanGroup(int row, int column) {
+        return null;
+    }
+
+    /**
+     * 获取单元格内容
+     *
+     * @param row    行号
+     * @param column 列号
+     * @param font   字体
+     * @return 单元格内容
+     */
+    abstract Phrase getPhrase(int row, int column, Font font);
+
+    /**
+     * 计算行合并
+     * 每一列只遍历一次，每个单元格只取一次比较值和分组
+     *
+     * @param columnRowSpan 各列是否需要行合并
+     * @return 下标：[列号][行号]   值：单元格合并的行数，0 表示被上方单元格合并。不需要行合并的列为 null
+     */
+    int[][] planRowSpan(boolean[] columnRowSpan) {
+        int rowCount = this.size();
+        int[][] rowSpans = new int[columnRowSpan.length][];
+        for (int column = 0; column < columnRowSpan.length; column++) {
+            if (!columnRowSpan[column] || rowCount == 0) {
+                continue;
+            }
+            int[] columnSpans = new int[rowCount];
+            int spanStart = 0;
+            Object spanKey = this.getSpanKey(0, column);
+            Object spanGroup = this.getSpanGroup(0, column);
+            for (int row = 1; row < rowCount; row++) {
+                Object cellKey = this.getSpanKey(row, column);
+                Object cellGroup = this.getSpanGroup(row, column);
+                if (!Objects.equals(spanKey, cellKey) || !Objects.equals(spanGroup, cellGroup)) {
+                    columnSpans[spanStart] = row - spanStart;
+                    spanStart = row;
+                    spanKey = cellKey;
+                    spanGroup = cellGroup;
+                }
+            }
+            columnSpans[spanStart] = rowCount - spanStart;
+            rowSpans[column] = columnSpans;
+        }
+        return rowSpans;
+    }
+
+}
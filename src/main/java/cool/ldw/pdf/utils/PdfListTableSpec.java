@@ -0,0 +1,240 @@
+package cool.ldw.pdf.utils;
+
+import cn.hutool.core.util.ArrayUtil;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.Font;
+import com.itextpdf.text.pdf.PdfPCell;
+import com.itextpdf.text.pdf.PdfPTable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 预编译的 list 类型表格结构
+ * 列宽（包括序号列）、各列是否行合并只计算一次，表格头单元格按样式表创建一次，之后每次只需要填充表格内容。
+ * 创建后不再修改，可以在多个线程之间共享。
+ *
+ * @author ldwcool
+ */
+public class PdfListTableSpec {
+
+    /**
+     * 列对应的字段名，第 0 列为序号
+     */
+    private final String[] columnKeys;
+
+    /**
+     * 列宽，第 0 列为序号
+     */
+    private final float[] widths;
+
+    /**
+     * 表格头，第 0 列为序号。为 null 则不显示表格头
+     */
+    private final String[] headerNames;
+
+    /**
+     * 各列是否需要行合并
+     */
+    private final boolean[] columnRowSpan;
+
+    /**
+     * 最近使用的样式表创建的表格头单元格
+     */
+    private volatile HeaderCells headerCells;
+
+    /**
+     * 创建表格结构
+     *
+     * @param headerNames      表格头，第 0 列为序号。为 null 则不显示表格头
+     * @param columnKeys       列对应的字段名，第 0 列为序号
+     * @param cellsWidthConfig 单元格宽度配置，不包含序号列
+     * @param isRowSpan        是否需要行合并。上下相邻单元内容一致将会合并
+     * @param rowSpanColumn    需要行合并的列。为 null 则所有列都行需要合并
+     */
+    PdfListTableSpec(String[] headerNames, String[] columnKeys, float[] cellsWidthConfig, boolean isRowSpan, String[] rowSpanColumn) {
+        this.headerNames = headerNames;
+        this.columnKeys = columnKeys;
+
+        // 序号列宽度为其它列总宽度的 8%
+        float totalCellWidth = 0;
+        for (float item : cellsWidthConfig) {
+            totalCellWidth += item;
+        }
+        this.widths = ArrayUtil.addAll(new float[]{(float) (totalCellWidth * 0.08)}, cellsWidthConfig);
+
+        this.columnRowSpan = new boolean[columnKeys.length];
+        for (int column = 0; column < columnKeys.length; column++) {
+            this.columnRowSpan[column] = isRowSpan && (ArrayUtil.isEmpty(rowSpanColumn) || ArrayUtil.contains(rowSpanColumn, columnKeys[column]));
+        }
+    }
+
+    /**
+     * 创建表格结构，列宽相同，显示表格头，不行合并
+     *
+     * @param header 表格头 键：表头中文名   值：单元格内容对应的字段名
+     * @return 表格结构
+     */
+    public static PdfListTableSpec of(Map<String, String> header) {
+        float[] cellsWidthConfig = new float[header.size()];
+        Arrays.fill(cellsWidthConfig, 1);
+        return of(header, true, cellsWidthConfig, false, null);
+    }
+
+    /**
+     * 创建表格结构
+     *
+     * @param header           表格头 键：表头中文名   值：单元格内容对应的字段名
+     * @param isShowHeader     是否显示表格头
+     * @param cellsWidthConfig 单元格宽度配置
+     * @param isRowSpan        是否需要行合并。上下相邻单元内容一致将会合并
+     * @param rowSpanColumn    需要行合并的列。为 null 则所有列都行需要合并
+     * @return 表格结构
+     */
+    public static PdfListTableSpec of(Map<String, String> header, boolean isShowHeader, float[] cellsWidthConfig, boolean isRowSpan, String[] rowSpanColumn) {
+        String[] headerNames = new String[header.size() + 1];
+        String[] columnKeys = new String[header.size() + 1];
+        headerNames[0] = "序号";
+        columnKeys[0] = PdfMapTableRows.INDEX_KEY;
+        int column = 1;
+        for (Map.Entry<String, String> entry : header.entrySet()) {
+            headerNames[column] = entry.getKey();
+            columnKeys[column] = entry.getValue();
+            column++;
+        }
+        return new PdfListTableSpec(isShowHeader ? headerNames : null, columnKeys, cellsWidthConfig, isRowSpan, rowSpanColumn);
+    }
+
+    /**
+     * 创建表格并填充内容，使用默认样式表
+     * 自定义序号值（如子明细序号）则在 content 参数中的 Map 添加 index 键值即可
+     *
+     * @param content 表格内容 键：字段名   值：字段内容
+     * @return 表格
+     */
+    public PdfPTable build(List<Map<String, String>> content) {
+        return this.build(content, PdfStyleSheet.getDefault());
+    }
+
+    /**
+     * 创建表格并填充内容
+     * 自定义序号值（如子明细序号）则在 content 参数中的 Map 添加 index 键值即可
+     *
+     * @param content    表格内容 键：字段名   值：字段内容
+     * @param styleSheet 样式表，一般为 {@link PdfExportDocument#getStyleSheet()}
+     * @return 表格
+     */
+    public PdfPTable build(List<Map<String, String>> content, PdfStyleSheet styleSheet) {
+        return this.build(new PdfMapTableRows(content, this.columnKeys), styleSheet);
+    }
+
+    /**
+     * 获取列对应的字段名
+     *
+     * @return 字段名，第 0 列为序号
+     */
+    public String[] getColumnKeys() {
+        return this.columnKeys.clone();
+    }
+
+    /**
+     * 创建表格并填充内容
+     *
+     * @param content    表格内容
+     * @param styleSheet 样式表
+     * @return 表格
+     */
+    PdfPTable build(PdfListTableRows content, PdfStyleSheet styleSheet) {
+        PdfPTable table = this.newTable(styleSheet);
+
+        // 计算行合并
+        int[][] rowSpans = content.planRowSpan(this.columnRowSpan);
+
+        // 添加表格内容
+        Font contentFont = styleSheet.getListContentFont();
+        int rowCount = content.size();
+        for (int i = 0; i < rowCount; i++) {
+            for (int column = 0; column < this.columnKeys.length; column++) {
+                int rowSpanNum = rowSpans[column] == null ? 1 : rowSpans[column][i];
+                if (rowSpanNum == 0) {
+                    // 已被上方单元格合并
+                    continue;
+                }
+                PdfPCell cell = styleSheet.newCell(content.getPhrase(i, column, contentFont));
+                if (rowSpanNum > 1) {
+                    cell.setRowspan(rowSpanNum);
+                }
+                table.addCell(cell);
+            }
+        }
+        return table;
+    }
+
+    /**
+     * 创建表格并添加表格头
+     *
+     * @param styleSheet 样式表
+     * @return 表格
+     */
+    PdfPTable newTable(PdfStyleSheet styleSheet) {
+        PdfPTable table = new PdfPTable(this.widths.length);
+        table.setWidthPercentage(100);
+        try {
+            table.setWidths(this.widths);
+        } catch (DocumentException e) {
+            throw new RuntimeException(e);
+        }
+        if (this.headerNames != null) {
+            for (PdfPCell headerCell : this.getHeaderCells(styleSheet)) {
+                table.addCell(headerCell);
+            }
+        }
+        return table;
+    }
+
+    /**
+     * 获取表格头单元格，添加到表格时会被复制。同一个样式表只创建一次
+     *
+     * @param styleSheet 样式表
+     * @return 表格头单元格
+     */
+    private PdfPCell[] getHeaderCells(PdfStyleSheet styleSheet) {
+        HeaderCells cached = this.headerCells;
+        if (cached != null && cached.styleSheet == styleSheet) {
+            return cached.cells;
+        }
+        Font headerFont = styleSheet.getHeaderCellFont();
+        PdfPCell[] cells = new PdfPCell[this.headerNames.length];
+        for (int column = 0; column < this.headerNames.length; column++) {
+            cells[column] = styleSheet.newCell(this.headerNames[column], headerFont);
+        }
+        this.headerCells = new HeaderCells(styleSheet, cells);
+        return cells;
+    }
+
+    /**
+     * 是否显示表格头
+     *
+     * @return 是否显示表格头
+     */
+    boolean isShowHeader() {
+        return this.headerNames != null;
+    }
+
+    /**
+     * 按样式表创建的表格头单元格
+     */
+    private static final class HeaderCells {
+
+        private final PdfStyleSheet styleSheet;
+
+        private final PdfPCell[] cells;
+
+        private HeaderCells(PdfStyleSheet styleSheet, PdfPCell[] cells) {
+            this.styleSheet = styleSheet;
+            this.cells = cells;
+        }
+    }
+
+}
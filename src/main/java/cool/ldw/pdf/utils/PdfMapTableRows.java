@@ -0,0 +1,82 @@
+package cool.ldw.pdf.utils;
+
+import com.itextpdf.text.Font;
+import com.itextpdf.text.Phrase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Map 形式的 list 类型表格数据
+ * 每一行为一个 Map 键：字段名   值：字段内容
+ *
+ * @author ldwcool
+ */
+class PdfMapTableRows extends PdfListTableRows {
+
+    /**
+     * 序号字段名
+     */
+    static final String INDEX_KEY = "index";
+
+    /**
+     * 表格内容
+     */
+    private final List<Map<String, String>> content;
+
+    /**
+     * 列对应的字段名，第 0 列为序号
+     */
+    private final String[] columnKeys;
+
+    PdfMapTableRows(List<Map<String, String>> content, String[] columnKeys) {
+        // 按行号随机访问，LinkedList 先复制一份避免每次 get 都遍历
+        this.content = content instanceof RandomAccess ? content : new ArrayList<>(content);
+        this.columnKeys = columnKeys;
+    }
+
+    @Override
+    int size() {
+        return this.content.size();
+    }
+
+    @Override
+    Object getSpanKey(int row, int column) {
+        return this.getText(row, column);
+    }
+
+    @Override
+    Object getSpanGroup(int row, int column) {
+        Map<String, String> rowData = this.content.get(row);
+        return rowData instanceof PdfListTableRow ? ((PdfListTableRow) rowData).getSpanGroup(this.columnKeys[column]) : null;
+    }
+
+    @Override
+    Phrase getPhrase(int row, int column, Font font) {
+        String text = this.getText(row, column);
+        // 使用分组标记的旧数据需要移除标记
+        if (!(this.content.get(row) instanceof PdfListTableRow)) {
+            text = PdfExportUtil.removeListTableSpanGroup(text);
+        }
+        return new Phrase(PdfExportUtil.formatStr(text), font);
+    }
+
+    /**
+     * 获取单元格内容，没有设置序号值时使用行号
+     *
+     * @param row    行号
+     * @param column 列号
+     * @return 单元格内容
+     */
+    private String getText(int row, int column) {
+        Map<String, String> rowData = this.content.get(row);
+        String key = this.columnKeys[column];
+        if (INDEX_KEY.equals(key) && !rowData.containsKey(INDEX_KEY)) {
+            return row + 1 + "";
+        }
+        return rowData.get(key);
+    }
+
+}
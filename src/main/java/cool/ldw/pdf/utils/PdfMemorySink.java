@@ -0,0 +1,233 @@
+package cool.ldw.pdf.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 内存 pdf 输出
+ * 代替 ByteArrayOutputStream：内容写入从 {@link PdfBufferPool} 取出的固定大小的块，扩容时不需要复制已写入的内容，
+ * {@link #close()} 时把块归还缓冲区池。输出流关闭时记录本次导出大小，同一报表类型的下一次导出据此预先取出足够的块。
+ * 大量导出同时进行时可以减少内存分配的峰值。非线程安全。
+ * <pre>
+ * try (PdfMemorySink sink = new PdfMemorySink("合同")) {
+ *     PdfExportDocument.export(sink.getOutputStream(), builder);
+ *     sink.writeTo(response.getOutputStream());
+ * }
+ * </pre>
+ *
+ * @author ldwcool
+ */
+public class PdfMemorySink implements Closeable {
+
+    /**
+     * 缓冲区池
+     */
+    private final PdfBufferPool pool;
+
+    /**
+     * 报表类型
+     */
+    private final String reportType;
+
+    /**
+     * 已写入内容的块
+     */
+    private final List<byte[]> chunks;
+
+    /**
+     * 最后一块中已写入的字节数
+     */
+    private int position;
+
+    /**
+     * 已写入的字节数
+     */
+    private long size;
+
+    /**
+     * 是否已释放
+     */
+    private boolean released;
+
+    /**
+     * 创建内存输出，使用默认缓冲区池
+     */
+    public PdfMemorySink() {
+        this(null);
+    }
+
+    /**
+     * 创建内存输出，使用默认缓冲区池
+     *
+     * @param reportType 报表类型，用于预估导出大小，可以为空
+     */
+    public PdfMemorySink(String reportType) {
+        this(reportType, PdfBufferPool.getDefault());
+    }
+
+    /**
+     * 创建内存输出
+     *
+     * @param reportType 报表类型，用于预估导出大小，可以为空
+     * @param pool       缓冲区池
+     */
+    public PdfMemorySink(String reportType, PdfBufferPool pool) {
+        this.pool = pool;
+        this.reportType = reportType;
+        int chunkSize = pool.getChunkSize();
+        int expectedChunks = (int) Math.max(1, (pool.getExpectedSize(reportType) + chunkSize - 1) / chunkSize);
+        this.chunks = new ArrayList<>(expectedChunks);
+        for (int i = 0; i < expectedChunks; i++) {
+            this.chunks.add(pool.acquire());
+        }
+    }
+
+    /**
+     * 获取写入内存的输出流
+     * 输出流关闭时记录本次导出大小，内容保留到 {@link #close()}
+     *
+     * @return 输出流
+     */
+    public OutputStream getOutputStream() {
+        return new MemoryOutputStream();
+    }
+
+    /**
+     * 获取已写入的字节数
+     *
+     * @return 字节数
+     */
+    public long size() {
+        return this.size;
+    }
+
+    /**
+     * 把内容写入输出流，不复制
+     *
+     * @param os 输出流，不会被关闭
+     * @throws IOException -
+     */
+    public void writeTo(OutputStream os) throws IOException {
+        this.ensureNotReleased();
+        long remaining = this.size;
+        for (byte[] chunk : this.chunks) {
+            if (remaining <= 0) {
+                break;
+            }
+            int count = (int) Math.min(remaining, chunk.length);
+            os.write(chunk, 0, count);
+            remaining -= count;
+        }
+    }
+
+    /**
+     * 复制内容到一个大小刚好的字节数组
+     *
+     * @return pdf 内容
+     */
+    public byte[] toByteArray() {
+        this.ensureNotReleased();
+        if (this.size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("内容超过字节数组的最大长度：" + this.size);
+        }
+        byte[] bytes = new byte[(int) this.size];
+        int offset = 0;
+        for (byte[] chunk : this.chunks) {
+            if (offset >= bytes.length) {
+                break;
+            }
+            int count = Math.min(bytes.length - offset, chunk.length);
+            System.arraycopy(chunk, 0, bytes, offset, count);
+            offset += count;
+        }
+        return bytes;
+    }
+
+    /**
+     * 把块归还缓冲区池，之后不能再读取内容
+     */
+    @Override
+    public void close() {
+        if (this.released) {
+            return;
+        }
+        this.released = true;
+        for (byte[] chunk : this.chunks) {
+            this.pool.release(chunk);
+        }
+        this.chunks.clear();
+    }
+
+    /**
+     * 检查是否已释放
+     */
+    private void ensureNotReleased() {
+        if (this.released) {
+            throw new IllegalStateException("内存输出已释放");
+        }
+    }
+
+    /**
+     * 写入内存的输出流
+     */
+    private final class MemoryOutputStream extends OutputStream {
+
+        private boolean closed;
+
+        @Override
+        public void write(int b) throws IOException {
+            this.ensureOpen();
+            byte[] chunk = this.currentChunk();
+            chunk[position++] = (byte) b;
+            size++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            this.ensureOpen();
+            while (len > 0) {
+                byte[] chunk = this.currentChunk();
+                int count = Math.min(len, chunk.length - position);
+                System.arraycopy(b, off, chunk, position, count);
+                position += count;
+                size += count;
+                off += count;
+                len -= count;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (!this.closed) {
+                this.closed = true;
+                pool.recordSize(reportType, size);
+            }
+        }
+
+        /**
+         * 获取当前写入的块，写满时换到下一块，没有下一块时从缓冲区池取出
+         *
+         * @return 当前写入的块
+         */
+        private byte[] currentChunk() {
+            int index = (int) (size / pool.getChunkSize());
+            if (size > 0 && position == pool.getChunkSize()) {
+                position = 0;
+            }
+            if (index == chunks.size()) {
+                chunks.add(pool.acquire());
+            }
+            return chunks.get(index);
+        }
+
+        private void ensureOpen() throws IOException {
+            if (this.closed || released) {
+                throw new IOException("输出流已关闭");
+            }
+        }
+    }
+
+}
@@ -0,0 +1,24 @@
+package cool.ldw.pdf.utils;
+
+/**
+ * pdf 导出指标接收者
+ * 文档关闭后调用一次，可以把指标转发到自己的监控系统
+ *
+ * @author ldwcool
+ */
+public interface PdfMetricsSink {
+
+    /**
+     * 不记录指标
+     */
+    PdfMetricsSink NONE = metrics -> {
+    };
+
+    /**
+     * 接收导出指标
+     *
+     * @param metrics 导出指标
+     */
+    void report(PdfExportMetrics metrics);
+
+}
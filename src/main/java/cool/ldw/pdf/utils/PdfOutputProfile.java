@@ -0,0 +1,61 @@
+package cool.ldw.pdf.utils;
+
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.pdf.PdfStream;
+import com.itextpdf.text.pdf.PdfWriter;
+
+/**
+ * pdf 输出配置
+ * 水印、页眉在每个文档中只写入一次，各页引用同一个 XObject；同一图片的多个副本也只写入一次，与输出配置无关
+ *
+ * @author ldwcool
+ */
+public enum PdfOutputProfile {
+
+    /**
+     * 最快：最低压缩级别，生成耗时最短，文件最大
+     */
+    FAST(PdfStream.BEST_SPEED, false),
+
+    /**
+     * 均衡：默认压缩级别，与之前的输出一致
+     */
+    BALANCED(PdfStream.DEFAULT_COMPRESSION, false),
+
+    /**
+     * 最小：最高压缩级别，并启用完全压缩（对象流、交叉引用流，pdf 版本 1.5），适合归档和下载
+     */
+    SMALLEST(PdfStream.BEST_COMPRESSION, true);
+
+    /**
+     * 压缩级别
+     */
+    private final int compressionLevel;
+
+    /**
+     * 是否完全压缩
+     */
+    private final boolean fullCompression;
+
+    PdfOutputProfile(int compressionLevel, boolean fullCompression) {
+        this.compressionLevel = compressionLevel;
+        this.fullCompression = fullCompression;
+    }
+
+    /**
+     * 应用到 PdfWriter，需要在文档打开之前调用
+     *
+     * @param writer pdfWriter
+     */
+    void apply(PdfWriter writer) {
+        writer.setCompressionLevel(this.compressionLevel);
+        if (this.fullCompression) {
+            try {
+                writer.setFullCompression();
+            } catch (DocumentException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+}
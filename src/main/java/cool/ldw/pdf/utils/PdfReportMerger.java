@@ -0,0 +1,190 @@
+package cool.ldw.pdf.utils;
+
+import cn.hutool.core.io.IoUtil;
+import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.io.RandomAccessSourceFactory;
+import com.itextpdf.text.pdf.PdfReader;
+import com.itextpdf.text.pdf.PdfSmartCopy;
+import com.itextpdf.text.pdf.RandomAccessFileOrArray;
+import com.itextpdf.text.pdf.SimpleBookmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * pdf 报表合并
+ * 把多个报表逐个复制到同一个输出中，每个报表复制完成后立即释放，内存占用与报表数量无关。
+ * 相同的字体、图片等资源只写入一次。每个报表生成一个一级书签，报表原有的书签（章节标题）作为其下级书签。
+ * 报表中目录的跳转链接在复制前转换为页面引用，合并后仍然有效。
+ * <pre>
+ * try (PdfReportMerger merger = new PdfReportMerger(os)) {
+ *     merger.addReport("报表一", builder1);
+ *     merger.addReport("报表二", new File("report2.pdf"));
+ * }
+ * </pre>
+ *
+ * @author ldwcool
+ */
+public class PdfReportMerger implements Closeable {
+
+    /**
+     * 合并后的文档
+     */
+    private final Document document;
+
+    /**
+     * 输出流
+     */
+    private final OutputStream os;
+
+    /**
+     * 复制器，相同的资源只写入一次
+     */
+    private final PdfSmartCopy copy;
+
+    /**
+     * 书签
+     */
+    private final List<HashMap<String, Object>> outlines = new ArrayList<>();
+
+    /**
+     * 已复制的页数
+     */
+    private int pageCount;
+
+    /**
+     * 创建报表合并
+     *
+     * @param os 输出流
+     */
+    public PdfReportMerger(OutputStream os) {
+        this(os, PdfOutputProfile.BALANCED);
+    }
+
+    /**
+     * 创建报表合并
+     *
+     * @param os            输出流
+     * @param outputProfile 输出配置
+     */
+    public PdfReportMerger(OutputStream os, PdfOutputProfile outputProfile) {
+        this.os = os;
+        this.document = new Document();
+        try {
+            this.copy = new PdfSmartCopy(this.document, os);
+        } catch (DocumentException e) {
+            throw new RuntimeException(e);
+        }
+        outputProfile.apply(this.copy);
+        this.document.open();
+    }
+
+    /**
+     * 生成报表并合并
+     * 同一时刻只有一个报表的内容在内存中
+     *
+     * @param title   书签标题
+     * @param builder 内容构建者
+     */
+    public void addReport(String title, PdfExportBuilder builder) {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        PdfExportDocument.export(os, builder);
+        this.addReport(title, os.toByteArray());
+    }
+
+    /**
+     * 合并报表
+     *
+     * @param title 书签标题
+     * @param pdf   报表内容
+     */
+    public void addReport(String title, byte[] pdf) {
+        try {
+            this.addReport(title, new PdfReader(pdf));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 合并报表文件，文件按需读取，不会整个读入内存
+     *
+     * @param title 书签标题
+     * @param file  报表文件
+     */
+    public void addReport(String title, File file) {
+        try {
+            RandomAccessFileOrArray source = new RandomAccessFileOrArray(new RandomAccessSourceFactory().createBestSource(file.getPath()));
+            this.addReport(title, new PdfReader(source, null));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 合并报表，复制完成后关闭 reader
+     *
+     * @param title  书签标题
+     * @param reader 报表
+     */
+    public void addReport(String title, PdfReader reader) {
+        try {
+            // 目录中的跳转链接转换为页面引用，避免不同报表的同名跳转目标冲突
+            reader.consolidateNamedDestinations();
+            List<HashMap<String, Object>> kids = SimpleBookmark.getBookmark(reader);
+
+            int pageOffset = this.pageCount;
+            int pages = reader.getNumberOfPages();
+            for (int page = 1; page <= pages; page++) {
+                this.copy.addPage(this.copy.getImportedPage(reader, page));
+            }
+            this.copy.freeReader(reader);
+            this.pageCount += pages;
+
+            HashMap<String, Object> outline = new HashMap<>(8);
+            outline.put("Title", title);
+            outline.put("Action", "GoTo");
+            outline.put("Page", (pageOffset + 1) + " Fit");
+            if (kids != null) {
+                SimpleBookmark.shiftPageNumbers(kids, pageOffset, null);
+                outline.put("Kids", kids);
+            }
+            this.outlines.add(outline);
+        } catch (DocumentException | IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * 获取已合并的页数
+     *
+     * @return 页数
+     */
+    public int getPageCount() {
+        return this.pageCount;
+    }
+
+    /**
+     * 写入书签并结束合并
+     * pdf 至少需要一页，没有合并任何报表时关闭输出流并抛出 IllegalStateException
+     */
+    @Override
+    public void close() {
+        if (this.pageCount == 0) {
+            IoUtil.close(this.os);
+            throw new IllegalStateException("没有合并任何报表，无法生成 pdf");
+        }
+        this.copy.setOutlines(this.outlines);
+        this.document.close();
+    }
+
+}
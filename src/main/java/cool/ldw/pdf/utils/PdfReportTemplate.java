@@ -0,0 +1,272 @@
+package cool.ldw.pdf.utils;
+
+import com.itextpdf.text.Section;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * pdf 报表模板
+ * 固定的标题、段落、表格结构只定义一次，每次导出时绑定数据即可。
+ * 列宽、行合并配置只计算一次，每次导出只填充表格内容；段落和表格按导出文档的样式表创建。
+ * 模板定义完成后不再修改，可以在多个线程之间共享，配合 {@link PdfBatchExportService}、{@link PdfAsyncExporter} 使用：
+ * <pre>
+ * PdfReportTemplate template = new PdfReportTemplate()
+ *         .addLevel1Title("概述")
+ *         .addParagraph("本报表统计...")
+ *         .addText("summary")
+ *         .addLevel2Title("明细")
+ *         .addListTable("detail", header, new float[]{1, 2}, true, null);
+ * PdfExportDocument.export(os, template.bind(data));
+ * </pre>
+ *
+ * @author ldwcool
+ */
+public class PdfReportTemplate {
+
+    /**
+     * 模板节点
+     */
+    private final List<Node> nodes = new ArrayList<>();
+
+    /**
+     * 添加一级标题
+     *
+     * @param title 标题内容
+     * @return this
+     */
+    public PdfReportTemplate addLevel1Title(String title) {
+        this.nodes.add(new TitleNode(1, title));
+        return this;
+    }
+
+    /**
+     * 添加二级标题
+     *
+     * @param title 标题内容
+     * @return this
+     */
+    public PdfReportTemplate addLevel2Title(String title) {
+        this.nodes.add(new TitleNode(2, title));
+        return this;
+    }
+
+    /**
+     * 添加三级标题
+     *
+     * @param title 标题内容
+     * @return this
+     */
+    public PdfReportTemplate addLevel3Title(String title) {
+        this.nodes.add(new TitleNode(3, title));
+        return this;
+    }
+
+    /**
+     * 添加静态正文段落，内容固定
+     *
+     * @param content 段落内容
+     * @return this
+     */
+    public PdfReportTemplate addParagraph(String content) {
+        this.nodes.add(new ParagraphNode(content));
+        return this;
+    }
+
+    /**
+     * 添加正文段落占位，内容在导出时从数据中获取
+     *
+     * @param key 数据键，值为段落内容。没有数据时不添加段落
+     * @return this
+     */
+    public PdfReportTemplate addText(String key) {
+        this.nodes.add(new TextNode(key));
+        return this;
+    }
+
+    /**
+     * 添加 list 类型表格占位，列宽相同，不行合并
+     *
+     * @param key    数据键，值为表格内容 List&lt;Map&lt;String, String&gt;&gt;。没有数据时不添加表格
+     * @param header 表格头 键：表头中文名   值：单元格内容对应的字段名
+     * @return this
+     */
+    public PdfReportTemplate addListTable(String key, Map<String, String> header) {
+        return this.addListTable(key, PdfListTableSpec.of(header));
+    }
+
+    /**
+     * 添加 list 类型表格占位
+     *
+     * @param key              数据键，值为表格内容 List&lt;Map&lt;String, String&gt;&gt;。没有数据时不添加表格
+     * @param header           表格头 键：表头中文名   值：单元格内容对应的字段名
+     * @param cellsWidthConfig 单元格宽度配置
+     * @param isRowSpan        是否需要行合并。上下相邻单元内容一致将会合并
+     * @param rowSpanColumn    需要行合并的列。为 null 则所有列都行需要合并
+     * @return this
+     */
+    public PdfReportTemplate addListTable(String key, Map<String, String> header, float[] cellsWidthConfig, boolean isRowSpan, String[] rowSpanColumn) {
+        return this.addListTable(key, PdfListTableSpec.of(header, true, cellsWidthConfig, isRowSpan, rowSpanColumn));
+    }
+
+    /**
+     * 添加 list 类型表格占位
+     *
+     * @param key  数据键，值为表格内容 List&lt;Map&lt;String, String&gt;&gt;。没有数据时不添加表格
+     * @param spec 表格结构
+     * @return this
+     */
+    public PdfReportTemplate addListTable(String key, PdfListTableSpec spec) {
+        this.nodes.add(new TableNode(key, spec));
+        return this;
+    }
+
+    /**
+     * 绑定数据，生成内容构建者
+     *
+     * @param data 数据 键：数据键   值：段落内容或表格内容
+     * @return 内容构建者
+     */
+    public PdfExportBuilder bind(Map<String, ?> data) {
+        return document -> this.render(document, data);
+    }
+
+    /**
+     * 按模板向文档添加内容
+     *
+     * @param document 已打开的文档
+     * @param data     数据 键：数据键   值：段落内容或表格内容
+     */
+    public void render(PdfExportDocument document, Map<String, ?> data) {
+        Section current = null;
+        for (Node node : this.nodes) {
+            current = node.render(document, current, data);
+        }
+    }
+
+    /**
+     * 模板节点
+     */
+    private abstract static class Node {
+
+        /**
+         * 添加内容
+         *
+         * @param document 文档
+         * @param current  当前标题
+         * @param data     数据
+         * @return 添加之后的当前标题
+         */
+        abstract Section render(PdfExportDocument document, Section current, Map<String, ?> data);
+
+        /**
+         * 检查是否已添加标题
+         *
+         * @param current 当前标题
+         */
+        static void checkTitle(Section current) {
+            if (current == null) {
+                throw new IllegalStateException("内容之前需要先添加标题");
+            }
+        }
+    }
+
+    /**
+     * 标题节点
+     */
+    private static final class TitleNode extends Node {
+
+        private final int level;
+
+        private final String title;
+
+        private TitleNode(int level, String title) {
+            this.level = level;
+            this.title = title;
+        }
+
+        @Override
+        Section render(PdfExportDocument document, Section current, Map<String, ?> data) {
+            switch (this.level) {
+                case 1:
+                    return document.addLevel1Title(this.title);
+                case 2:
+                    return document.addLevel2Title(this.title);
+                default:
+                    return document.addLevel3Title(this.title);
+            }
+        }
+    }
+
+    /**
+     * 静态段落节点
+     */
+    private static final class ParagraphNode extends Node {
+
+        private final String content;
+
+        private ParagraphNode(String content) {
+            this.content = content;
+        }
+
+        @Override
+        Section render(PdfExportDocument document, Section current, Map<String, ?> data) {
+            checkTitle(current);
+            current.add(document.getStyleSheet().newBodyParagraph(this.content));
+            return current;
+        }
+    }
+
+    /**
+     * 正文段落占位节点
+     */
+    private static final class TextNode extends Node {
+
+        private final String key;
+
+        private TextNode(String key) {
+            this.key = key;
+        }
+
+        @Override
+        Section render(PdfExportDocument document, Section current, Map<String, ?> data) {
+            checkTitle(current);
+            Object value = data.get(this.key);
+            if (value != null) {
+                current.add(document.getStyleSheet().newBodyParagraph(value.toString()));
+            }
+            return current;
+        }
+    }
+
+    /**
+     * list 类型表格占位节点
+     */
+    private static final class TableNode extends Node {
+
+        private final String key;
+
+        private final PdfListTableSpec spec;
+
+        private TableNode(String key, PdfListTableSpec spec) {
+            this.key = key;
+            this.spec = spec;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Section render(PdfExportDocument document, Section current, Map<String, ?> data) {
+            checkTitle(current);
+            Object value = data.get(this.key);
+            if (value instanceof List) {
+                current.add(this.spec.build((List<Map<String, String>>) value, document.getStyleSheet()));
+            } else if (value != null) {
+                throw new IllegalArgumentException("表格数据类型错误：" + this.key + "，需要 List<Map<String, String>>，实际为 "
+                        + value.getClass().getName());
+            }
+            return current;
+        }
+    }
+
+}
@@ -0,0 +1,149 @@
+package cool.ldw.pdf.utils;
+
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.Font;
+import com.itextpdf.text.pdf.PdfPCell;
+import com.itextpdf.text.pdf.PdfPTable;
+
+import java.io.Closeable;
+import java.util.Map;
+
+/**
+ * 流式 list 类型表格
+ * 每添加 flushRows 行就把已完成的行排版输出并释放，表格头在每一页重复显示，内存占用与总行数无关。
+ * 通过 {@link PdfExportDocument#addStreamingListTable(Map, float[], int)} 创建，添加完所有行后必须调用 {@link #close()}。
+ * 不支持行合并。
+ *
+ * @author ldwcool
+ */
+public class PdfStreamingTable implements Closeable {
+
+    /**
+     * 所属文档
+     */
+    private final PdfExportDocument document;
+
+    /**
+     * 表格
+     */
+    private final PdfPTable table;
+
+    /**
+     * 列对应的字段名，第 0 列为序号
+     */
+    private final String[] columnKeys;
+
+    /**
+     * 每多少行输出一次
+     */
+    private final int flushRows;
+
+    /**
+     * 单元格内容字体
+     */
+    private final Font contentFont;
+
+    /**
+     * 已添加的行数
+     */
+    private int rowCount;
+
+    /**
+     * 是否已关闭
+     */
+    private boolean closed;
+
+    PdfStreamingTable(PdfExportDocument document, String[] headerNames, String[] columnKeys, float[] cellsWidthConfig, int flushRows) {
+        this.document = document;
+        this.columnKeys = columnKeys;
+        this.flushRows = Math.max(flushRows, 1);
+        this.contentFont = document.getStyleSheet().getListContentFont();
+        this.table = new PdfListTableSpec(headerNames, columnKeys, cellsWidthConfig, false, null).newTable(document.getStyleSheet());
+        // 表格头在每一页重复显示
+        this.table.setHeaderRows(headerNames == null ? 0 : 1);
+        this.table.setComplete(false);
+    }
+
+    /**
+     * 添加一行
+     * 自定义序号值（如子明细序号）则在 row 中添加 index 键值即可
+     *
+     * @param row 行内容 键：字段名   值：字段内容
+     */
+    public void addRow(Map<String, String> row) {
+        String[] values = new String[this.columnKeys.length];
+        for (int column = 0; column < this.columnKeys.length; column++) {
+            values[column] = row.get(this.columnKeys[column]);
+        }
+        if (!row.containsKey(PdfMapTableRows.INDEX_KEY)) {
+            values[0] = this.rowCount + 1 + "";
+        }
+        this.addCells(values);
+    }
+
+    /**
+     * 添加一行，序号自动生成
+     *
+     * @param values 行内容，与表格头顺序一致，不包含序号
+     */
+    public void addRow(String... values) {
+        String[] cells = new String[this.columnKeys.length];
+        cells[0] = this.rowCount + 1 + "";
+        System.arraycopy(values, 0, cells, 1, Math.min(values.length, cells.length - 1));
+        this.addCells(cells);
+    }
+
+    /**
+     * 获取已添加的行数
+     *
+     * @return 已添加的行数
+     */
+    public int getRowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * 输出剩余的行并结束表格
+     */
+    @Override
+    public void close() {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        this.table.setComplete(true);
+        this.write();
+    }
+
+    /**
+     * 添加一行单元格，达到 flushRows 行时输出
+     *
+     * @param values 单元格内容，包含序号
+     */
+    private void addCells(String[] values) {
+        if (this.closed) {
+            throw new IllegalStateException("表格已关闭");
+        }
+        PdfStyleSheet styleSheet = this.document.getStyleSheet();
+        for (String value : values) {
+            PdfPCell cell = styleSheet.newCell(PdfExportUtil.formatStr(value), this.contentFont);
+            this.table.addCell(cell);
+        }
+        this.rowCount++;
+        if (this.table.size() - this.table.getHeaderRows() >= this.flushRows) {
+            this.write();
+        }
+    }
+
+    /**
+     * 把已完成的行输出到文档，输出后的行会从表格中移除
+     */
+    private void write() {
+        try {
+            this.document.add(this.table);
+        } catch (DocumentException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+}
@@ -0,0 +1,150 @@
+package cool.ldw.pdf.utils;
+
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.util.StrUtil;
+import com.itextpdf.text.Chunk;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.ElementListener;
+import com.itextpdf.text.Font;
+import com.itextpdf.text.Paragraph;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * 流式正文
+ * 排版时才从 Reader 中逐段读取文本，每一行生成一个正文样式的段落，长行按固定长度分块添加到同一个段落中，
+ * 排版完成的页面直接写入输出流，内存占用与文本长度无关。文本只能排版一次，读取完成后关闭 Reader。空白行被忽略。
+ *
+ * @author ldwcool
+ */
+class PdfStreamingText extends Paragraph {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 每次读取的最大字符数
+     */
+    private static final int MAX_CHUNK_LENGTH = 1024;
+
+    /**
+     * 文本，读取后置空
+     */
+    private transient BufferedReader reader;
+
+    /**
+     * 样式表
+     */
+    private final transient PdfStyleSheet styleSheet;
+
+    /**
+     * 当前读取的文本块
+     */
+    private final transient StringBuilder piece = new StringBuilder(MAX_CHUNK_LENGTH);
+
+    /**
+     * 当前文本块是否为一行的结尾
+     */
+    private boolean lineEnded;
+
+    /**
+     * 上一个字符是否为 \r，用于跳过 \r\n 中的 \n
+     */
+    private boolean afterCarriageReturn;
+
+    PdfStreamingText(Reader reader, PdfStyleSheet styleSheet) {
+        this.reader = IoUtil.getReader(reader);
+        this.styleSheet = styleSheet;
+        this.setLeading(styleSheet.getBodyLeading());
+    }
+
+    @Override
+    public boolean process(ElementListener listener) {
+        BufferedReader textReader = this.reader;
+        this.reader = null;
+        if (textReader == null) {
+            return true;
+        }
+        try {
+            while (this.readPiece(textReader)) {
+                if (this.lineEnded && StrUtil.isBlank(this.piece)) {
+                    continue;
+                }
+                if (!listener.add(new LineParagraph(textReader))) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (DocumentException e) {
+            return false;
+        } finally {
+            IoUtil.close(textReader);
+        }
+    }
+
+    /**
+     * 读取一个文本块，遇到换行符或达到最大字符数时结束
+     *
+     * @param textReader 文本
+     * @return 是否读取到内容，文本已读完返回 false
+     */
+    private boolean readPiece(BufferedReader textReader) {
+        this.piece.setLength(0);
+        this.lineEnded = false;
+        try {
+            // 不拆分代理对，避免一个字符被分到两个文本块中
+            while (this.piece.length() < MAX_CHUNK_LENGTH || Character.isHighSurrogate(this.piece.charAt(this.piece.length() - 1))) {
+                int c = textReader.read();
+                if (c == -1) {
+                    // 文本结束
+                    this.lineEnded = true;
+                    return this.piece.length() > 0;
+                }
+                boolean skip = this.afterCarriageReturn && c == '\n';
+                this.afterCarriageReturn = c == '\r';
+                if (skip) {
+                    continue;
+                }
+                if (c == '\r' || c == '\n') {
+                    this.lineEnded = true;
+                    return true;
+                }
+                this.piece.append((char) c);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return true;
+    }
+
+    /**
+     * 一行文本的正文段落，排版时继续读取该行剩余的文本块
+     */
+    private final class LineParagraph extends Paragraph {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient BufferedReader textReader;
+
+        private LineParagraph(BufferedReader textReader) {
+            this.textReader = textReader;
+            styleSheet.applyBodyStyle(this);
+        }
+
+        @Override
+        public boolean process(ElementListener listener) {
+            Font font = styleSheet.getBodyFont();
+            try {
+                listener.add(new Chunk(piece.toString(), font));
+                while (!lineEnded && readPiece(this.textReader)) {
+                    listener.add(new Chunk(piece.toString(), font));
+                }
+                return true;
+            } catch (DocumentException e) {
+                return false;
+            }
+        }
+    }
+
+}
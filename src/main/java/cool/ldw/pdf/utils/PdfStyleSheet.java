@@ -0,0 +1,281 @@
+package cool.ldw.pdf.utils;
+
+import com.itextpdf.text.BaseColor;
+import com.itextpdf.text.Chunk;
+import com.itextpdf.text.Element;
+import com.itextpdf.text.Font;
+import com.itextpdf.text.Paragraph;
+import com.itextpdf.text.Phrase;
+import com.itextpdf.text.pdf.PdfPCell;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * pdf 样式表
+ * 构建之后不再修改，可以在多个线程、多个文档之间共享。
+ * 其中的 Font 均为共享实例，使用方不要修改，如需调整请先复制：new Font(font)
+ *
+ * @author ldwcool
+ */
+@Getter
+@Builder(toBuilder = true)
+public class PdfStyleSheet {
+
+    /**
+     * 默认样式表
+     */
+    private static volatile PdfStyleSheet defaultStyleSheet;
+
+    /**
+     * 正文字体 宋体 小四 不加粗
+     */
+    @Builder.Default
+    private final Font bodyFont = new Font(PdfExportUtil.getSimsunBaseFont(), 12, Font.NORMAL);
+
+    /**
+     * 正文段落首行缩进
+     */
+    @Builder.Default
+    private final float bodyFirstLineIndent = 24;
+
+    /**
+     * 正文段落行距
+     */
+    @Builder.Default
+    private final float bodyLeading = 23;
+
+    /**
+     * 正文段落段前、段后间距
+     */
+    @Builder.Default
+    private final float bodySpacing = 11.5f;
+
+    /**
+     * 表格头单元格字体 黑体 10号 不加粗
+     */
+    @Builder.Default
+    private final Font headerCellFont = new Font(PdfExportUtil.getSimheiBaseFont(), 10, Font.NORMAL);
+
+    /**
+     * list 类型表格内容单元格字体 宋体 10号 不加粗
+     */
+    @Builder.Default
+    private final Font listContentFont = new Font(PdfExportUtil.getSimsunBaseFont(), 10, Font.NORMAL);
+
+    /**
+     * 一级标题字体 黑体 三号 加粗
+     */
+    @Builder.Default
+    private final Font level1TitleFont = new Font(PdfExportUtil.getSimheiBaseFont(), 16, Font.BOLD);
+
+    /**
+     * 二级标题字体 黑体 四号
+     */
+    @Builder.Default
+    private final Font level2TitleFont = new Font(PdfExportUtil.getSimheiBaseFont(), 14, Font.NORMAL);
+
+    /**
+     * 三级标题字体 黑体 小四号
+     */
+    @Builder.Default
+    private final Font level3TitleFont = new Font(PdfExportUtil.getSimheiBaseFont(), 12, Font.NORMAL);
+
+    /**
+     * 目录标题字体 宋体 三号 加粗
+     */
+    @Builder.Default
+    private final Font catalogTitleFont = new Font(PdfExportUtil.getSimsunBaseFont(), 16, Font.BOLD);
+
+    /**
+     * 目录一级标题字体 黑体 四号
+     */
+    @Builder.Default
+    private final Font catalogLevel1Font = new Font(PdfExportUtil.getSimheiBaseFont(), 14, Font.NORMAL);
+
+    /**
+     * 目录二级标题字体 宋体 四号
+     */
+    @Builder.Default
+    private final Font catalogLevel2Font = new Font(PdfExportUtil.getSimsunBaseFont(), 14, Font.NORMAL);
+
+    /**
+     * 目录三级标题字体 宋体 小四号
+     */
+    @Builder.Default
+    private final Font catalogLevel3Font = new Font(PdfExportUtil.getSimsunBaseFont(), 12, Font.NORMAL);
+
+    /**
+     * 页眉、页脚字体 宋体 13号
+     */
+    @Builder.Default
+    private final Font pageHeaderFont = new Font(PdfExportUtil.getSimsunBaseFont(), 13f, Font.NORMAL);
+
+    /**
+     * 水印字体 宋体 130号 浅灰色
+     */
+    @Builder.Default
+    private final Font pageWatermarkFont = new Font(PdfExportUtil.getSimsunBaseFont(), 130, Font.NORMAL, new BaseColor(223, 223, 223, 120));
+
+    /**
+     * 单元格模板，新建单元格时复制该模板的边框、对齐方式、内边距等设置
+     */
+    @Getter(AccessLevel.NONE)
+    @Builder.Default
+    private final PdfPCell cellTemplate = defaultCellTemplate();
+
+    /**
+     * 获取默认样式表
+     *
+     * @return 默认样式表
+     */
+    public static PdfStyleSheet getDefault() {
+        PdfStyleSheet styleSheet = defaultStyleSheet;
+        if (styleSheet == null) {
+            synchronized (PdfStyleSheet.class) {
+                styleSheet = defaultStyleSheet;
+                if (styleSheet == null) {
+                    styleSheet = PdfStyleSheet.builder().build();
+                    defaultStyleSheet = styleSheet;
+                }
+            }
+        }
+        return styleSheet;
+    }
+
+    /**
+     * 设置默认样式表，替换全局的样式
+     *
+     * @param styleSheet 样式表
+     */
+    public static void setDefault(PdfStyleSheet styleSheet) {
+        defaultStyleSheet = styleSheet;
+    }
+
+    /**
+     * 创建正文段落
+     * 字体：宋体，字号：小四，段落：左对齐，首行缩进2个字符，行距：固定值23磅（pt）
+     *
+     * @param content 段落内容
+     * @return 正文段落
+     */
+    public Paragraph newBodyParagraph(String content) {
+        Paragraph paragraph = new Paragraph(content, this.bodyFont);
+        this.applyBodyStyle(paragraph);
+        return paragraph;
+    }
+
+    /**
+     * 设置正文段落样式
+     *
+     * @param paragraph 段落
+     */
+    void applyBodyStyle(Paragraph paragraph) {
+        paragraph.setFont(this.bodyFont);
+        paragraph.setAlignment(Element.ALIGN_LEFT);
+        paragraph.setFirstLineIndent(this.bodyFirstLineIndent);
+        paragraph.setLeading(this.bodyLeading);
+        paragraph.setSpacingAfter(this.bodySpacing);
+        paragraph.setSpacingBefore(this.bodySpacing);
+    }
+
+    /**
+     * 创建标题段落
+     * 一级标题居中，段前段后 1 行；其余标题左对齐，段前段后 0.5 行。行距固定值 23 磅
+     *
+     * @param level 标题层级
+     * @param chunk 标题内容
+     * @return 标题段落
+     */
+    public Paragraph newTitleParagraph(int level, Chunk chunk) {
+        Paragraph paragraph = new Paragraph(chunk);
+        if (level <= 1) {
+            paragraph.setAlignment(Element.ALIGN_CENTER);
+            paragraph.setSpacingBefore(23);
+            paragraph.setSpacingAfter(23);
+        } else {
+            paragraph.setAlignment(Element.ALIGN_LEFT);
+            paragraph.setSpacingBefore(11.5f);
+            paragraph.setSpacingAfter(11.5f);
+        }
+        paragraph.setLeading(23);
+        return paragraph;
+    }
+
+    /**
+     * 获取标题字体
+     *
+     * @param level 标题层级
+     * @return 标题字体
+     */
+    public Font getTitleFont(int level) {
+        switch (level) {
+            case 1:
+                return this.level1TitleFont;
+            case 2:
+                return this.level2TitleFont;
+            default:
+                return this.level3TitleFont;
+        }
+    }
+
+    /**
+     * 获取目录条目字体
+     *
+     * @param level 标题层级
+     * @return 目录条目字体
+     */
+    public Font getCatalogFont(int level) {
+        switch (level) {
+            case 1:
+                return this.catalogLevel1Font;
+            case 2:
+                return this.catalogLevel2Font;
+            default:
+                return this.catalogLevel3Font;
+        }
+    }
+
+    /**
+     * 创建单元格，复制单元格模板的设置
+     *
+     * @param content 单元格内容
+     * @param font    字体
+     * @return 单元格
+     */
+    public PdfPCell newCell(String content, Font font) {
+        return newCell(new Phrase(content, font));
+    }
+
+    /**
+     * 创建单元格，复制单元格模板的设置
+     *
+     * @param phrase 单元格内容
+     * @return 单元格
+     */
+    public PdfPCell newCell(Phrase phrase) {
+        PdfPCell cell = new PdfPCell(this.cellTemplate);
+        cell.setPhrase(phrase);
+        return cell;
+    }
+
+    /**
+     * 默认单元格模板
+     * 左对齐、垂直居中，最小高度 22，上下内边距 10，左右内边距 5
+     *
+     * @return 单元格模板
+     */
+    public static PdfPCell defaultCellTemplate() {
+        PdfPCell cell = new PdfPCell(new Phrase());
+        cell.setUseAscender(true);
+        cell.setHorizontalAlignment(PdfPCell.LEFT);
+        cell.setVerticalAlignment(PdfPCell.ALIGN_MIDDLE);
+        cell.setMinimumHeight(22);
+        cell.setPaddingTop(10);
+        cell.setPaddingBottom(10);
+        cell.setPaddingLeft(5);
+        cell.setPaddingRight(5);
+        return cell;
+    }
+
+}